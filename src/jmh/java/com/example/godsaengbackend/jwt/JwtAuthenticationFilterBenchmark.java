@@ -0,0 +1,140 @@
+package com.example.godsaengbackend.jwt;
+
+import com.example.godsaengbackend.cache.UserDetailsCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 인증된 요청 한 건당 JWT 필터 비용 비교
+ * - legacyFilter: 변경 전 필터 (요청마다 파서 생성 후 3회 파싱 + 사용자 조회)
+ * - cachedFilter: 현재 필터 (1회 파싱 + 인증 주체 캐시)
+ * 사용자 조회는 dbLatencyMicros 만큼 대기하는 스텁으로 대체합니다 (0이면 순수 CPU 비용만 측정).
+ * metrics=false는 하위 레지스트리가 없는 CompositeMeterRegistry(기록 없음)로, 타이머 기록 비용을 분리해 봅니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "godsaengSecretKey1234567890godsaengSecretKey1234567890";
+    private static final String EMAIL = "bench@godsaeng.com";
+    private static final FilterChain NOOP_CHAIN = (request, response) -> { };
+
+    @Param({"0", "500"})
+    public long dbLatencyMicros;
+
+    @Param({"true", "false"})
+    public boolean metrics;
+
+    private OncePerRequestFilter legacyFilter;
+    private OncePerRequestFilter cachedFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        UserDetailsService userDetailsService = username -> {
+            if (dbLatencyMicros > 0) {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(dbLatencyMicros));
+            }
+            return User.withUsername(username)
+                    .password("{bcrypt}hash")
+                    .authorities(new SimpleGrantedAuthority("ROLE_USER"))
+                    .build();
+        };
+
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 3600000, 604800000,
+                userDetailsService, new UserDetailsCache(10000, 300000));
+        MeterRegistry meterRegistry = metrics ? new SimpleMeterRegistry() : new CompositeMeterRegistry();
+        cachedFilter = new JwtAuthenticationFilter(provider, meterRegistry);
+        legacyFilter = new LegacyJwtAuthenticationFilter(
+                Keys.hmacShaKeyFor(SECRET.getBytes()), userDetailsService);
+
+        request = new MockHttpServletRequest("GET", "/api/lectures");
+        request.addHeader("Authorization", "Bearer " + provider.createAccessToken(EMAIL));
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object legacyFilter() throws ServletException, IOException {
+        return filter(legacyFilter);
+    }
+
+    @Benchmark
+    public Object cachedFilter() throws ServletException, IOException {
+        return filter(cachedFilter);
+    }
+
+    private Object filter(OncePerRequestFilter filter) throws ServletException, IOException {
+        try {
+            filter.doFilter(request, response, NOOP_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    /**
+     * 변경 전 JwtAuthenticationFilter + JwtTokenProvider 동작을 그대로 재현
+     */
+    static class LegacyJwtAuthenticationFilter extends OncePerRequestFilter {
+
+        private final SecretKey key;
+        private final UserDetailsService userDetailsService;
+
+        LegacyJwtAuthenticationFilter(SecretKey key, UserDetailsService userDetailsService) {
+            this.key = key;
+            this.userDetailsService = userDetailsService;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+                throws ServletException, IOException {
+            String bearerToken = request.getHeader("Authorization");
+            String token = bearerToken != null && bearerToken.startsWith("Bearer ") ? bearerToken.substring(7) : null;
+
+            if (token != null && validateToken(token)) {
+                UserDetails userDetails = userDetailsService.loadUserByUsername(getUsername(token));
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities()));
+                request.setAttribute("email", getUsername(token));
+            }
+            filterChain.doFilter(request, response);
+        }
+
+        private boolean validateToken(String token) {
+            Jws<Claims> claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            return "ACCESS".equals(claims.getBody().get("type", String.class))
+                    && !claims.getBody().getExpiration().before(new Date());
+        }
+
+        private String getUsername(String token) {
+            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+        }
+    }
+}
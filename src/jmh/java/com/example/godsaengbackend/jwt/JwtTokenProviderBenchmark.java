@@ -0,0 +1,66 @@
+package com.example.godsaengbackend.jwt;
+
+import com.example.godsaengbackend.cache.UserDetailsCache;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 인증 요청과 로그인/토큰 갱신 경로에서 호출되는 JwtTokenProvider 연산별 처리량
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "godsaengSecretKey1234567890godsaengSecretKey1234567890";
+    private static final String EMAIL = "bench@godsaeng.com";
+
+    private JwtTokenProvider provider;
+    private String accessToken;
+    private String refreshToken;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider(SECRET, 3600000, 604800000,
+                username -> User.withUsername(username)
+                        .password("")
+                        .authorities(new SimpleGrantedAuthority("ROLE_USER"))
+                        .build(),
+                new UserDetailsCache(10000, 300000));
+        accessToken = provider.createAccessToken(EMAIL);
+        refreshToken = provider.createRefreshToken(EMAIL);
+
+        request = new MockHttpServletRequest("GET", "/api/lectures");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return provider.createAccessToken(EMAIL);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return provider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public String getUsername() {
+        return provider.getUsername(accessToken);
+    }
+
+    @Benchmark
+    public String refreshToken() {
+        return provider.refreshToken(refreshToken);
+    }
+
+    @Benchmark
+    public String resolveToken() {
+        return JwtAuthenticationFilter.resolveToken(request);
+    }
+}
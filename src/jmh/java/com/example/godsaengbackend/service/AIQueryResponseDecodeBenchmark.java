@@ -0,0 +1,83 @@
+package com.example.godsaengbackend.service;
+
+import com.example.godsaengbackend.dto.AIQueryResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI /query 응답 한 건의 디코딩 비용과 할당량 비교
+ * - legacyTree: 변경 전 (본문을 String으로 받은 뒤 요청마다 new ObjectMapper() + readTree + 트리 탐색)
+ * - sharedMapperTree: 공용 ObjectMapper로 바꾸기만 한 경우 (String + 트리는 그대로)
+ * - typedDecode: 현재 (응답 바이트에서 공용 ObjectMapper로 AIQueryResponse를 바로 디코딩)
+ * 답변 한 건당 할당량은 gc.alloc.rate.norm으로 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AIQueryResponseDecodeBenchmark {
+
+    @Param({"200", "4000"})
+    public int answerChars;
+
+    @Param({"object", "array"})
+    public String shape;
+
+    private ObjectMapper sharedMapper;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        // Spring Boot가 애플리케이션 ObjectMapper를 만드는 것과 같은 빌더
+        sharedMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        String answer = "강의 내용을 정리하면 다음과 같습니다. ".repeat(answerChars / 20 + 1).substring(0, answerChars);
+        String object = "{\"data\":{\"answer\":\"" + answer + "\",\"sources\":[1,2,3]},\"status\":\"success\"}";
+        body = ("array".equals(shape) ? "[" + object + "]" : object).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String legacyTree() throws IOException {
+        String responseBody = new String(body, StandardCharsets.UTF_8);
+        return walk(new ObjectMapper().readTree(responseBody));
+    }
+
+    @Benchmark
+    public String sharedMapperTree() throws IOException {
+        String responseBody = new String(body, StandardCharsets.UTF_8);
+        return walk(sharedMapper.readTree(responseBody));
+    }
+
+    @Benchmark
+    public String typedDecode() throws IOException {
+        return sharedMapper.readValue(body, AIQueryResponse.class).resolveAnswer();
+    }
+
+    // 변경 전 ChatService.requestAIResponse의 트리 탐색
+    private static String walk(JsonNode rootNode) {
+        if (rootNode.isArray() && rootNode.size() > 0) {
+            JsonNode firstElement = rootNode.get(0);
+            if (firstElement.has("data") && firstElement.get("data").has("answer")) {
+                return firstElement.get("data").get("answer").asText();
+            } else if (firstElement.has("answer")) {
+                return firstElement.get("answer").asText();
+            }
+        } else {
+            if (rootNode.has("data") && rootNode.get("data").isObject() && rootNode.get("data").has("answer")) {
+                return rootNode.get("data").get("answer").asText();
+            } else if (rootNode.has("data") && rootNode.get("data").isTextual()) {
+                return rootNode.get("data").asText();
+            } else if (rootNode.has("answer")) {
+                return rootNode.get("answer").asText();
+            } else if (rootNode.has("response")) {
+                return rootNode.get("response").asText();
+            }
+        }
+        return null;
+    }
+}
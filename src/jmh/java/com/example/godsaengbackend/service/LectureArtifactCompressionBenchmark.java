@@ -0,0 +1,45 @@
+package com.example.godsaengbackend.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 강의 자료 gzip 압축/해제 비용과 압축률
+ * corpus에 실제 스크립트 파일 경로를 지정하면 해당 파일로 측정합니다 (기본값은 README).
+ * 예: ./gradlew jmh -PjmhIncludes=LectureArtifactCompressionBenchmark
+ * 압축률은 Setup 단계에서 표준 출력으로 기록됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LectureArtifactCompressionBenchmark {
+
+    @Param({"readme.MD"})
+    public String corpus;
+
+    private byte[] raw;
+    private byte[] compressed;
+
+    @Setup
+    public void setUp() throws IOException {
+        raw = Files.readString(Path.of(corpus), StandardCharsets.UTF_8).getBytes(StandardCharsets.UTF_8);
+        compressed = LectureArtifactService.compress(raw);
+        System.out.printf("%n[corpus] %s: %d -> %d bytes (%.1f%%)%n",
+                corpus, raw.length, compressed.length, 100.0 * compressed.length / raw.length);
+    }
+
+    @Benchmark
+    public byte[] compress() {
+        return LectureArtifactService.compress(raw);
+    }
+
+    @Benchmark
+    public byte[] decompress() {
+        return LectureArtifactService.decompress(compressed);
+    }
+}
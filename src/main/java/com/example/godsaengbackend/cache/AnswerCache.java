@@ -0,0 +1,238 @@
+package com.example.godsaengbackend.cache;
+
+import com.example.godsaengbackend.entity.CachedAnswer;
+import com.example.godsaengbackend.repository.CachedAnswerRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * AI 질의 답변 캐시
+ * 같은 강의(task_id)에 대한 같은 질문/말투는 AI 서버를 다시 호출하지 않고 저장된 답변을 사용합니다.
+ * 질문은 공백/대소문자/끝의 문장부호를 정규화해 비교하며, 크기와 TTL로 제한된 메모리 캐시 뒤에
+ * 선택적으로 DB 테이블(ai_answer_cache)을 두어 재시작과 다른 인스턴스 사이에서도 답변을 공유합니다.
+ * 강의가 다시 처리되면 evictTask로 해당 task_id의 답변을 모두 무효화합니다.
+ */
+@Component
+public class AnswerCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnswerCache.class);
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern TRAILING_PUNCTUATION = Pattern.compile("[\\s?!.~…]+$");
+
+    /**
+     * task_id, 정규화한 질문, 말투로 이루어진 캐시 키
+     */
+    public record AnswerKey(String taskId, String question, String tone) {
+    }
+
+    private final Cache<AnswerKey, String> cache;
+    private final CachedAnswerRepository cachedAnswerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean persistent;
+    private final Duration ttl;
+
+    // 조회 중 같은 task_id가 무효화됐다면 그 조회 결과는 저장하지 않기 위한 task_id별 세대 번호
+    // (무효화된 적 없는 task_id는 0, TTL 동안 쓰이지 않은 번호는 그 사이 진행 중인 조회가 없으므로 제거)
+    private final Cache<String, AtomicLong> generations;
+    private final LongAdder persistentHits = new LongAdder();
+
+    public AnswerCache(
+            CachedAnswerRepository cachedAnswerRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${ai.answer-cache.max-size:10000}") long maxSize,
+            @Value("${ai.answer-cache.ttl:86400000}") long ttlMillis,
+            @Value("${ai.answer-cache.persistent:false}") boolean persistent) {
+        this.cachedAnswerRepository = cachedAnswerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.persistent = persistent;
+        this.ttl = Duration.ofMillis(ttlMillis);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.generations = Caffeine.newBuilder()
+                .expireAfterAccess(ttl)
+                .build();
+    }
+
+    public static AnswerKey key(String taskId, String question, String tone) {
+        return new AnswerKey(taskId, normalize(question), tone);
+    }
+
+    /**
+     * 질문 비교용 정규화: 유니코드 호환 정규화, 소문자, 연속 공백 축약, 끝의 문장부호 제거
+     */
+    static String normalize(String question) {
+        String text = Normalizer.normalize(question, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        text = WHITESPACE.matcher(text).replaceAll(" ").strip();
+        return TRAILING_PUNCTUATION.matcher(text).replaceAll("");
+    }
+
+    /**
+     * 캐시된 답변을 반환합니다. 메모리에 없으면 영속 저장소를 확인하고, 있으면 메모리에 다시 적재합니다.
+     */
+    public String find(AnswerKey key) {
+        String answer = cache.getIfPresent(key);
+        if (answer != null || !persistent) {
+            return answer;
+        }
+
+        long observed = generation(key.taskId());
+        try {
+            answer = cachedAnswerRepository.findByTaskIdAndQuestionHash(key.taskId(), hash(key))
+                    .filter(row -> row.getCachedAt().isAfter(LocalDateTime.now().minus(ttl)))
+                    .map(CachedAnswer::getAnswer)
+                    .orElse(null);
+        } catch (Exception e) {
+            // 영속 저장소 장애 시 캐시 미스로 보고 AI 서버에 질의
+            logger.warn("AI 답변 캐시 조회 실패: taskId={}, error={}", key.taskId(), e.getMessage());
+            return null;
+        }
+        if (answer != null) {
+            persistentHits.increment();
+            if (generation(key.taskId()) == observed) {
+                cache.put(key, answer);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * task_id의 현재 세대 번호를 반환합니다. AI 호출 전에 읽어 두었다가 put에 전달합니다.
+     */
+    public long generation(String taskId) {
+        AtomicLong generation = taskId != null ? generations.getIfPresent(taskId) : null;
+        return generation != null ? generation.get() : 0;
+    }
+
+    /**
+     * 답변을 저장합니다. AI 호출 중에 같은 task_id가 무효화됐다면(세대 번호 변경) 저장하지 않습니다.
+     */
+    public void put(AnswerKey key, String answer, long observedGeneration) {
+        if (generation(key.taskId()) != observedGeneration) {
+            return;
+        }
+        cache.put(key, answer);
+        if (persistent) {
+            persist(key, answer);
+        }
+    }
+
+    /**
+     * task_id의 모든 답변을 무효화합니다.
+     * 현재 트랜잭션이 있으면 커밋 이후에도 메모리 캐시를 한 번 더 무효화합니다.
+     */
+    public void evictTask(String taskId) {
+        if (taskId == null) {
+            return;
+        }
+        invalidate(taskId);
+        if (persistent) {
+            int deleted = transactionTemplate.execute(status -> cachedAnswerRepository.deleteAllByTaskId(taskId));
+            logger.debug("AI 답변 캐시 무효화: taskId={}, 저장된 답변 {}건 삭제", taskId, deleted);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(taskId);
+                }
+            });
+        }
+    }
+
+    /**
+     * TTL이 지난 영속 답변을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${ai.answer-cache.purge-interval:3600000}")
+    public void purgeExpired() {
+        if (!persistent) {
+            return;
+        }
+        int deleted = transactionTemplate.execute(
+                status -> cachedAnswerRepository.deleteExpired(LocalDateTime.now().minus(ttl)));
+        if (deleted > 0) {
+            logger.info("만료된 AI 답변 캐시 정리: {}건", deleted);
+        }
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("persistent", persistent);
+        result.put("size", cache.estimatedSize());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("persistentHitCount", persistentHits.sum());
+        result.put("evictionCount", stats.evictionCount());
+        return result;
+    }
+
+    private void invalidate(String taskId) {
+        generations.get(taskId, id -> new AtomicLong()).incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> key.taskId().equals(taskId));
+    }
+
+    private void persist(AnswerKey key, String answer) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                CachedAnswer row = cachedAnswerRepository.findByTaskIdAndQuestionHash(key.taskId(), hash(key))
+                        .orElseGet(() -> CachedAnswer.builder()
+                                .taskId(key.taskId())
+                                .questionHash(hash(key))
+                                .question(key.question())
+                                .tone(key.tone())
+                                .build());
+                row.setAnswer(answer);
+                row.setCachedAt(LocalDateTime.now());
+                cachedAnswerRepository.save(row);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 같은 답변을 먼저 저장한 경우
+            logger.debug("AI 답변 캐시 동시 저장 무시: taskId={}", key.taskId());
+        } catch (Exception e) {
+            // 영속 저장 실패가 채팅 응답을 막지 않도록 메모리 캐시만 유지
+            logger.warn("AI 답변 캐시 저장 실패: taskId={}, error={}", key.taskId(), e.getMessage());
+        }
+    }
+
+    private static String hash(AnswerKey key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(key.question().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(key.tone().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.godsaengbackend.cache;
+
+import com.example.godsaengbackend.dto.LectureDto;
+import com.example.godsaengbackend.entity.Lecture;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 처리 완료(COMPLETED)된 강의 상세 응답 캐시
+ * 완료된 강의는 거의 바뀌지 않으므로 대용량 TEXT 컬럼을 매번 읽지 않도록 보관합니다.
+ * 항목 수가 아니라 문자열 크기로 용량을 제한하며, 강의가 변경되면 evict로 무효화합니다.
+ */
+@Component
+public class LectureDetailCache {
+
+    // 문자열 외 필드와 캐시 항목 자체의 대략적인 크기
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+
+    private final Cache<Long, CachedDetail> cache;
+
+    // 조회 중 무효화가 일어났다면 그 조회 결과는 저장하지 않기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    public LectureDetailCache(
+            @Value("${lecture.detail-cache.max-weight:67108864}") long maxWeightBytes,
+            @Value("${lecture.detail-cache.ttl:3600000}") long ttlMillis) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((Long lectureId, CachedDetail entry) -> entry.weight())
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시에 있고 소유자가 일치하면 반환하고, 아니면 loader로 조회합니다.
+     * 조회 결과가 COMPLETED 상태일 때만 저장합니다.
+     * 소유자가 다르면 캐시를 건너뛰어 loader가 접근 권한 오류를 내도록 합니다.
+     */
+    public LectureDto.DetailResponse get(Long lectureId, String ownerEmail, Supplier<LectureDto.DetailResponse> loader) {
+        CachedDetail cached = cache.getIfPresent(lectureId);
+        if (cached != null && cached.ownerEmail().equals(ownerEmail)) {
+            return cached.detail();
+        }
+
+        long observed = generation.get();
+        LectureDto.DetailResponse detail = loader.get();
+        if (detail.getStatus() == Lecture.LectureStatus.COMPLETED
+                && generation.get() == observed) {
+            cache.put(lectureId, new CachedDetail(ownerEmail, detail));
+        }
+        return detail;
+    }
+
+    /**
+     * 현재 트랜잭션이 있으면 커밋 이후에도 한 번 더 무효화합니다.
+     * 커밋 전에 다른 요청이 이전 내용을 다시 적재하는 경우를 막기 위함입니다.
+     */
+    public void evict(Long lectureId) {
+        invalidate(lectureId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(lectureId);
+                }
+            });
+        }
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("weightBytes", cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L));
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("evictionWeightBytes", stats.evictionWeight());
+        return result;
+    }
+
+    private void invalidate(Long lectureId) {
+        generation.incrementAndGet();
+        cache.invalidate(lectureId);
+    }
+
+    private record CachedDetail(String ownerEmail, LectureDto.DetailResponse detail) {
+
+        int weight() {
+            long chars = length(detail.getTitle()) + length(detail.getDescription())
+                    + length(detail.getVideoUrl()) + length(detail.getTranscript())
+                    + length(detail.getSummary()) + length(detail.getExpectedQuestions())
+                    + length(detail.getStudyPlan()) + length(detail.getTaskId());
+            return (int) Math.min(Integer.MAX_VALUE, ENTRY_OVERHEAD_BYTES + chars * 2);
+        }
+
+        private static long length(String value) {
+            return value != null ? value.length() : 0;
+        }
+    }
+}
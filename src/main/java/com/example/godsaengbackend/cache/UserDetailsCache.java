@@ -0,0 +1,78 @@
+package com.example.godsaengbackend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * JWT subject(이메일)별 인증 주체 캐시
+ * 요청마다 users 테이블을 조회하지 않도록 크기와 TTL이 제한된 캐시에 보관합니다.
+ * 비밀번호 해시는 보관하지 않으며, 권한이 바뀌면 evict로 즉시 무효화합니다.
+ */
+@Component
+public class UserDetailsCache {
+
+    private final Cache<String, UserDetails> cache;
+
+    public UserDetailsCache(
+            @Value("${auth.user-cache.max-size:10000}") long maxSize,
+            @Value("${auth.user-cache.ttl:300000}") long ttlMillis) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시에 없으면 loader로 조회해 권한 정보만 남긴 사본을 저장합니다.
+     * loader가 예외를 던지면(탈퇴한 사용자 등) 캐시에 남기지 않습니다.
+     */
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        return cache.get(username, key -> withoutPassword(loader.apply(key)));
+    }
+
+    /**
+     * 현재 트랜잭션이 있으면 커밋 이후에도 한 번 더 무효화합니다.
+     * 커밋 전에 다른 요청이 옛 권한을 다시 적재하는 경우를 막기 위함입니다.
+     */
+    public void evict(String username) {
+        cache.invalidate(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(username);
+                }
+            });
+        }
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        return result;
+    }
+
+    private static UserDetails withoutPassword(UserDetails userDetails) {
+        return org.springframework.security.core.userdetails.User.withUsername(userDetails.getUsername())
+                .password("")
+                .authorities(userDetails.getAuthorities())
+                .build();
+    }
+}
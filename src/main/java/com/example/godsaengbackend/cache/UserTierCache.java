@@ -0,0 +1,103 @@
+package com.example.godsaengbackend.cache;
+
+import com.example.godsaengbackend.repository.SubscriptionRepository;
+import com.example.godsaengbackend.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 이메일별 사용자 등급 캐시 (처리율 한도, AI 작업 우선순위에 사용)
+ * - GOD: users.is_god_mode = true
+ * - PREMIUM: 유효한 구독의 planType이 user-tier.premium-plans에 포함
+ * - BASIC: 그 외
+ * 요청마다 사용자/구독을 조회하지 않도록 TTL 동안 캐시하며, 갓모드 변경 시에는 evict로 바로 반영합니다.
+ */
+@Component
+public class UserTierCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserTierCache.class);
+
+    public enum Tier {
+        BASIC, PREMIUM, GOD
+    }
+
+    private final UserRepository userRepository;
+    private final SubscriptionRepository subscriptionRepository;
+    private final Set<String> premiumPlans;
+    private final Cache<String, Tier> cache;
+
+    public UserTierCache(
+            UserRepository userRepository,
+            SubscriptionRepository subscriptionRepository,
+            @Value("${user-tier.premium-plans:PREMIUM}") List<String> premiumPlans,
+            @Value("${user-tier.cache.max-size:100000}") long maxSize,
+            @Value("${user-tier.cache.ttl:60000}") long ttlMillis) {
+        this.userRepository = userRepository;
+        this.subscriptionRepository = subscriptionRepository;
+        this.premiumPlans = premiumPlans.stream()
+                .map(plan -> plan.trim().toUpperCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .build();
+    }
+
+    /**
+     * 조회에 실패하면 캐시하지 않고 BASIC으로 처리합니다 (DB 장애 중에도 가장 낮은 등급 기준으로 동작).
+     */
+    public Tier tierOf(String email) {
+        try {
+            return cache.get(email, this::load);
+        } catch (RuntimeException e) {
+            logger.warn("사용자 등급 조회 실패, BASIC 적용: email={}, error={}", email, e.getMessage());
+            return Tier.BASIC;
+        }
+    }
+
+    /**
+     * 커밋 전에 다른 요청이 옛 등급을 다시 적재할 수 있으므로 커밋 이후에도 한 번 더 무효화합니다.
+     */
+    public void evict(String email) {
+        cache.invalidate(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(email);
+                }
+            });
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", cache.estimatedSize());
+        stats.put("premiumPlans", premiumPlans);
+        return stats;
+    }
+
+    private Tier load(String email) {
+        if (Boolean.TRUE.equals(userRepository.findGodModeByEmail(email).orElse(false))) {
+            return Tier.GOD;
+        }
+        boolean premium = subscriptionRepository.findActivePlanTypesByEmail(email, LocalDateTime.now()).stream()
+                .anyMatch(plan -> premiumPlans.contains(plan.toUpperCase(Locale.ROOT)));
+        return premium ? Tier.PREMIUM : Tier.BASIC;
+    }
+}
@@ -0,0 +1,253 @@
+package com.example.godsaengbackend.client;
+
+import com.example.godsaengbackend.dto.AIQueryResponse;
+import com.example.godsaengbackend.dto.AIUploadResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.netty.http.client.HttpClientRequest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * AI 서버 호출 전용 게이트웨이
+ * 커넥션 풀을 공유하는 WebClient 위에서 엔드포인트(upload/process/query)별로
+ * 응답 타임아웃과 동시 호출 한도(벌크헤드)를 분리해서 적용합니다.
+ * /process, /query는 그 앞에 서킷 브레이커와 적응형 동시 호출 한도(AIGatewayGuard)를 두어
+ * AI 서버가 느려지거나 장애가 나면 타임아웃까지 기다리지 않고 즉시 거절합니다.
+ * 모든 호출은 ai.gateway.requests 타이머에 엔드포인트와 결과(outcome) 태그로 기록됩니다.
+ */
+@Component
+public class AIGatewayClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(AIGatewayClient.class);
+
+    private static final String METRIC_NAME = "ai.gateway.requests";
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    // AI 서버가 스트리밍 답변 끝에 보내는 종료 이벤트
+    private static final String STREAM_DONE_MARKER = "[DONE]";
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient aiWebClient;
+    private final AIGatewayPoolMetrics poolMetrics;
+    private final MeterRegistry meterRegistry;
+    private final String queryStreamPath;
+
+    private final Bulkhead uploadBulkhead;
+    private final Bulkhead processBulkhead;
+    private final Bulkhead queryBulkhead;
+
+    private final AIGatewayGuard processGuard;
+    private final AIGatewayGuard queryGuard;
+
+    private final Duration uploadTimeout;
+    private final Duration processTimeout;
+    private final Duration queryTimeout;
+
+    public AIGatewayClient(
+            WebClient aiWebClient,
+            AIGatewayPoolMetrics poolMetrics,
+            MeterRegistry meterRegistry,
+            @Qualifier("aiProcessGuard") AIGatewayGuard processGuard,
+            @Qualifier("aiQueryGuard") AIGatewayGuard queryGuard,
+            @Value("${ai.service.query-stream-path:/query/stream}") String queryStreamPath,
+            @Value("${ai.gateway.upload.timeout:120000}") long uploadTimeout,
+            @Value("${ai.gateway.upload.max-concurrent:4}") int uploadMaxConcurrent,
+            @Value("${ai.gateway.upload.max-wait:5000}") long uploadMaxWait,
+            @Value("${ai.gateway.process.timeout:10000}") long processTimeout,
+            @Value("${ai.gateway.process.max-concurrent:20}") int processMaxConcurrent,
+            @Value("${ai.gateway.process.max-wait:2000}") long processMaxWait,
+            @Value("${ai.gateway.query.timeout:60000}") long queryTimeout,
+            @Value("${ai.gateway.query.max-concurrent:50}") int queryMaxConcurrent,
+            @Value("${ai.gateway.query.max-wait:1000}") long queryMaxWait) {
+        this.aiWebClient = aiWebClient;
+        this.poolMetrics = poolMetrics;
+        this.meterRegistry = meterRegistry;
+        this.processGuard = processGuard;
+        this.queryGuard = queryGuard;
+        this.queryStreamPath = queryStreamPath;
+        this.uploadBulkhead = new Bulkhead("upload", uploadMaxConcurrent, Duration.ofMillis(uploadMaxWait));
+        this.processBulkhead = new Bulkhead("process", processMaxConcurrent, Duration.ofMillis(processMaxWait));
+        this.queryBulkhead = new Bulkhead("query", queryMaxConcurrent, Duration.ofMillis(queryMaxWait));
+        this.uploadTimeout = Duration.ofMillis(uploadTimeout);
+        this.processTimeout = Duration.ofMillis(processTimeout);
+        this.queryTimeout = Duration.ofMillis(queryTimeout);
+    }
+
+    /**
+     * 강의 파일을 multipart로 /process에 업로드하고 응답 본문을 반환합니다.
+     * idempotencyKey가 있으면 헤더로 보내 재전송된 업로드를 AI 서버가 중복 처리하지 않게 합니다.
+     */
+    public AIUploadResponse upload(MultiValueMap<String, HttpEntity<?>> parts, String idempotencyKey) {
+        return timed("upload", () -> uploadBulkhead.execute(() -> aiWebClient.post()
+                .uri("/process")
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .headers(headers -> {
+                    if (idempotencyKey != null) {
+                        headers.set(IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+                    }
+                })
+                .body(BodyInserters.fromMultipartData(parts))
+                .httpRequest(request -> responseTimeout(request, uploadTimeout))
+                .retrieve()
+                .bodyToMono(AIUploadResponse.class)
+                .block()));
+    }
+
+    /**
+     * 강의 처리 요청(JSON)을 /process에 전송합니다.
+     * AI 서버가 재전송을 걸러낼 수 있도록 Idempotency-Key 헤더를 함께 보냅니다.
+     */
+    public void process(Map<String, Object> requestBody, String idempotencyKey) {
+        timed("process", () -> processGuard.execute(() -> processBulkhead.execute(() -> aiWebClient.post()
+                .uri("/process")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                .bodyValue(requestBody)
+                .httpRequest(request -> responseTimeout(request, processTimeout))
+                .retrieve()
+                .toBodilessEntity()
+                .block())));
+    }
+
+    /**
+     * 질문을 /query에 전송하고 응답을 반환합니다.
+     * JSON 응답은 애플리케이션 공용 ObjectMapper(WebClient 코덱)로 응답 버퍼에서 바로 AIQueryResponse로 디코딩하며,
+     * JSON이 아닌 응답은 본문 전체를 답변으로 사용합니다.
+     */
+    public AIQueryResponse query(Map<String, Object> requestBody) {
+        AIQueryResponse body = timed("query", () -> queryGuard.execute(() -> queryBulkhead.execute(() -> aiWebClient.post()
+                .uri("/query")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .httpRequest(request -> responseTimeout(request, queryTimeout))
+                .exchangeToMono(response -> {
+                    if (response.statusCode().isError()) {
+                        return response.createError();
+                    }
+                    boolean json = response.headers().contentType()
+                            .map(type -> type.isCompatibleWith(MediaType.APPLICATION_JSON)
+                                    || type.getSubtype().endsWith("+json"))
+                            .orElse(false);
+                    return json
+                            ? response.bodyToMono(AIQueryResponse.class)
+                            : response.bodyToMono(String.class).map(AIQueryResponse::ofText);
+                })
+                .block())));
+        logger.debug("AI 서버 응답: {}", body);
+        return body;
+    }
+
+    /**
+     * 질문을 스트리밍 엔드포인트에 전송하고 SSE 이벤트를 그대로 전달합니다.
+     * 스트리밍에서는 응답 타임아웃이 토큰 사이의 최대 대기 시간으로 동작합니다.
+     * [DONE] 이벤트를 받으면 여기서 스트림을 정상 완료시키므로(이벤트는 전달하지 않음) 서킷 브레이커/적응형 한도와
+     * 타이머에는 성공으로 기록되고, 취소는 클라이언트가 도중에 끊은 경우만 남습니다.
+     * 시간은 구독부터 스트림 종료(완료/오류/취소)까지 기록합니다.
+     */
+    public Flux<ServerSentEvent<String>> queryStream(Map<String, Object> requestBody) {
+        Flux<ServerSentEvent<String>> stream = queryGuard.wrap(queryBulkhead.wrap(aiWebClient.post()
+                .uri(queryStreamPath)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(requestBody)
+                .httpRequest(request -> responseTimeout(request, queryTimeout))
+                .retrieve()
+                .bodyToFlux(SSE_TYPE)
+                .takeWhile(event -> !STREAM_DONE_MARKER.equals(event.data()))));
+
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return stream
+                    .doOnComplete(() -> stop(sample, "query-stream", "SUCCESS"))
+                    .doOnError(e -> stop(sample, "query-stream", outcome(e)))
+                    .doOnCancel(() -> stop(sample, "query-stream", "CANCELLED"));
+        });
+    }
+
+    /**
+     * /query 서킷이 열려 있으면 즉시 AIServiceUnavailableException을 던집니다.
+     * 질문을 저장하기 전에 확인해 차단 중에는 아무것도 기록하지 않도록 합니다.
+     */
+    public void checkQueryAvailable() {
+        queryGuard.checkAvailable();
+    }
+
+    /**
+     * 커넥션 풀, 엔드포인트별 벌크헤드, 서킷 브레이커와 적응형 한도 상태를 반환합니다.
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> bulkheads = new LinkedHashMap<>();
+        for (Bulkhead bulkhead : new Bulkhead[]{uploadBulkhead, processBulkhead, queryBulkhead}) {
+            bulkheads.put(bulkhead.getName(), bulkhead.stats());
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("connectionPools", poolMetrics.snapshot());
+        stats.put("bulkheads", bulkheads);
+        stats.put("guards", Map.of("process", processGuard.stats(), "query", queryGuard.stats()));
+        return stats;
+    }
+
+    private <T> T timed(String endpoint, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "SUCCESS";
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            outcome = outcome(e);
+            throw e;
+        } finally {
+            stop(sample, endpoint, outcome);
+        }
+    }
+
+    private void stop(Timer.Sample sample, String endpoint, String outcome) {
+        sample.stop(Timer.builder(METRIC_NAME)
+                .description("AI 서버 호출 시간")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    // 벌크헤드 거절, 응답 타임아웃, AI 서버의 4xx/5xx 응답을 구분
+    static String outcome(Throwable error) {
+        if (error instanceof AIServiceUnavailableException) {
+            return "REJECTED";
+        }
+        if (error instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is4xxClientError() ? "CLIENT_ERROR" : "SERVER_ERROR";
+        }
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException || cause instanceof ReadTimeoutException) {
+                return "TIMEOUT";
+            }
+        }
+        return "ERROR";
+    }
+
+    private static void responseTimeout(ClientHttpRequest request, Duration timeout) {
+        HttpClientRequest nativeRequest = request.getNativeRequest();
+        nativeRequest.responseTimeout(timeout);
+    }
+}
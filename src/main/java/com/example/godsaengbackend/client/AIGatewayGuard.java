@@ -0,0 +1,97 @@
+package com.example.godsaengbackend.client;
+
+import reactor.core.publisher.Flux;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * AI 엔드포인트 하나에 대한 서킷 브레이커 + 적응형 동시 호출 한도
+ * 차단 중이거나 한도를 넘으면 AI 서버를 기다리지 않고 즉시 AIServiceUnavailableException을 던집니다.
+ * 타임아웃, 5xx, 연결 오류만 장애로 보고, 4xx와 벌크헤드 거절은 AI 서버 상태와 무관한 결과로 봅니다.
+ */
+public class AIGatewayGuard {
+
+    private final CircuitBreaker circuitBreaker;
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public AIGatewayGuard(CircuitBreaker circuitBreaker, AdaptiveConcurrencyLimiter limiter) {
+        this.circuitBreaker = circuitBreaker;
+        this.limiter = limiter;
+    }
+
+    /**
+     * 블로킹 호출을 보호합니다.
+     */
+    public <T> T execute(Supplier<T> call) {
+        acquire();
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            onSuccess(System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException e) {
+            onError(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 스트리밍 호출을 보호합니다. 스트림 길이는 답변 길이에 따라 달라지므로 느린 응답으로 보지 않고,
+     * 오류(토큰 사이 타임아웃 포함)만 장애로 기록합니다.
+     */
+    public <T> Flux<T> wrap(Flux<T> flux) {
+        return Flux.defer(() -> {
+            acquire();
+            return flux
+                    .doOnComplete(() -> onSuccess(0))
+                    .doOnError(this::onError)
+                    .doOnCancel(this::onIgnored);
+        });
+    }
+
+    /**
+     * 요청을 저장하기 전에 서킷이 열려 있는지만 확인합니다.
+     */
+    public void checkAvailable() {
+        circuitBreaker.checkAvailable();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("circuitBreaker", circuitBreaker.stats());
+        stats.put("limiter", limiter.stats());
+        return stats;
+    }
+
+    private void acquire() {
+        circuitBreaker.acquirePermission();
+        try {
+            limiter.acquire();
+        } catch (RuntimeException e) {
+            circuitBreaker.onIgnored();
+            throw e;
+        }
+    }
+
+    private void onSuccess(long latencyNanos) {
+        circuitBreaker.onSuccess();
+        limiter.onSuccess(latencyNanos);
+    }
+
+    private void onError(Throwable error) {
+        switch (AIGatewayClient.outcome(error)) {
+            case "TIMEOUT", "SERVER_ERROR", "ERROR" -> {
+                circuitBreaker.onFailure();
+                limiter.onDropped();
+            }
+            default -> onIgnored();
+        }
+    }
+
+    private void onIgnored() {
+        circuitBreaker.onIgnored();
+        limiter.onIgnored();
+    }
+}
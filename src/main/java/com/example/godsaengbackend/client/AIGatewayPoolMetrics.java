@@ -0,0 +1,42 @@
+package com.example.godsaengbackend.client;
+
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * AI 게이트웨이 커넥션 풀 상태를 수집합니다. (원격 주소별 풀)
+ */
+public class AIGatewayPoolMetrics implements ConnectionProvider.MeterRegistrar {
+
+    private final Map<String, ConnectionPoolMetrics> pools = new ConcurrentHashMap<>();
+
+    @Override
+    public void registerMetrics(String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+        pools.put(poolName + "@" + remoteAddress, metrics);
+    }
+
+    @Override
+    public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+        pools.remove(poolName + "@" + remoteAddress);
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        pools.forEach((key, metrics) -> {
+            Map<String, Object> pool = new LinkedHashMap<>();
+            pool.put("acquired", metrics.acquiredSize());
+            pool.put("allocated", metrics.allocatedSize());
+            pool.put("idle", metrics.idleSize());
+            pool.put("pendingAcquire", metrics.pendingAcquireSize());
+            pool.put("maxAllocated", metrics.maxAllocatedSize());
+            pool.put("maxPendingAcquire", metrics.maxPendingAcquireSize());
+            snapshot.put(key, pool);
+        });
+        return snapshot;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.godsaengbackend.client;
+
+import java.time.Duration;
+
+/**
+ * AI 서버 호출을 지금 처리할 수 없을 때(동시 요청 한도 초과, 서킷 차단 등) 발생하는 예외
+ */
+public class AIServiceUnavailableException extends RuntimeException {
+
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final Duration retryAfter;
+
+    public AIServiceUnavailableException(String message) {
+        this(message, DEFAULT_RETRY_AFTER);
+    }
+
+    public AIServiceUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Retry-After 헤더 값 (초, 최소 1)
+     */
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.godsaengbackend.client;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AIMD 방식의 적응형 동시 호출 한도
+ * 제때 끝난 호출마다 한도를 1/limit씩 늘리고(한도만큼 성공하면 +1),
+ * 타임아웃/서버 오류/느린 응답(latencyThreshold 초과)이 나오면 backoffRatio를 곱해 줄입니다.
+ * 한도를 넘는 호출은 기다리지 않고 즉시 거절합니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private volatile double limit;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      double backoffRatio, Duration latencyThreshold) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 한도 안이면 자리를 확보하고, 아니면 즉시 거절합니다.
+     * 확보한 자리는 onSuccess/onDropped/onIgnored 중 하나로 반납해야 합니다.
+     */
+    public void acquire() {
+        if (inFlight.incrementAndGet() > (int) limit) {
+            inFlight.decrementAndGet();
+            rejected.increment();
+            throw new AIServiceUnavailableException(
+                    "AI " + name + " 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    public void onSuccess(long latencyNanos) {
+        if (latencyNanos > latencyThresholdNanos) {
+            onDropped();
+            return;
+        }
+        int current = inFlight.getAndDecrement();
+        // 한도를 절반 이상 쓰고 있을 때만 늘림 (한가할 때 한도가 무한정 커지지 않도록)
+        if (current * 2 >= limit) {
+            synchronized (this) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        }
+    }
+
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        dropped.increment();
+        synchronized (this) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        }
+    }
+
+    public void onIgnored() {
+        inFlight.decrementAndGet();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("limit", (int) limit);
+        stats.put("inFlight", inFlight.get());
+        stats.put("rejected", rejected.sum());
+        stats.put("dropped", dropped.sum());
+        return stats;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.godsaengbackend.client;
+
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * AI 엔드포인트별 동시 호출 수를 제한하는 세마포어 기반 벌크헤드
+ * 한 엔드포인트가 막혀도 다른 엔드포인트 호출은 영향을 받지 않습니다.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final Duration maxWait;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public Bulkhead(String name, int maxConcurrent, Duration maxWait) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWait = maxWait;
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * 허용량 안에서 블로킹 호출을 실행합니다. 최대 대기 시간 안에 자리가 나지 않으면 거절합니다.
+     */
+    public <T> T execute(Supplier<T> call) {
+        acquire();
+        try {
+            return call.get();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * 스트리밍 호출은 대기 없이 자리가 있을 때만 구독하고, 스트림 종료 시 자리를 반납합니다.
+     */
+    public <T> Flux<T> wrap(Flux<T> flux) {
+        return Flux.defer(() -> {
+            if (!permits.tryAcquire()) {
+                rejected.increment();
+                return Flux.error(rejection());
+            }
+            return flux.doFinally(signal -> release());
+        });
+    }
+
+    private void acquire() {
+        waiting.incrementAndGet();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        } finally {
+            waiting.decrementAndGet();
+        }
+
+        if (!acquired) {
+            rejected.increment();
+            throw rejection();
+        }
+    }
+
+    private void release() {
+        permits.release();
+        completed.increment();
+    }
+
+    private AIServiceUnavailableException rejection() {
+        return new AIServiceUnavailableException(
+                "AI " + name + " 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("maxConcurrent", maxConcurrent);
+        stats.put("active", maxConcurrent - permits.availablePermits());
+        stats.put("waiting", waiting.get());
+        stats.put("completed", completed.sum());
+        stats.put("rejected", rejected.sum());
+        return stats;
+    }
+}
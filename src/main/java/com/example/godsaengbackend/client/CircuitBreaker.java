@@ -0,0 +1,186 @@
+package com.example.godsaengbackend.client;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최근 호출의 실패율로 AI 엔드포인트를 차단하는 서킷 브레이커
+ * - CLOSED: 최근 windowSize건 중 실패율이 임계값 이상이면(최소 minimumCalls건) OPEN으로 전환
+ * - OPEN: openDuration 동안 호출 없이 즉시 거절
+ * - HALF_OPEN: 시험 호출을 halfOpenProbes건까지 허용해 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ * AI 호출은 수 초 단위이므로 상태 전환은 단순하게 synchronized로 처리합니다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final Duration openDuration;
+    private final int halfOpenProbes;
+
+    // 최근 호출 결과 (true = 실패) 링 버퍼
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+    private long openCount;
+    private long rejectedCount;
+
+    public CircuitBreaker(String name, double failureRateThreshold, int minimumCalls, int windowSize,
+                          Duration openDuration, int halfOpenProbes) {
+        this.name = name;
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = minimumCalls;
+        this.window = new boolean[windowSize];
+        this.openDuration = openDuration;
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    /**
+     * 호출 허용 여부를 확인합니다. 허용되면 호출 후 반드시 onSuccess/onFailure/onIgnored 중 하나를 호출해야 합니다.
+     */
+    public synchronized void acquirePermission() {
+        if (state == State.OPEN) {
+            long remaining = remainingOpenNanos();
+            if (remaining > 0) {
+                rejectedCount++;
+                throw rejection(remaining);
+            }
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+            probeSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight + probeSuccesses >= halfOpenProbes) {
+                rejectedCount++;
+                throw rejection(0);
+            }
+            probesInFlight++;
+        }
+    }
+
+    /**
+     * 호출하지 않고 현재 차단 중인지만 확인합니다 (요청을 저장하기 전 사전 점검용).
+     */
+    public synchronized void checkAvailable() {
+        if (state == State.OPEN) {
+            long remaining = remainingOpenNanos();
+            if (remaining > 0) {
+                rejectedCount++;
+                throw rejection(remaining);
+            }
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            releaseProbe();
+            if (++probeSuccesses >= halfOpenProbes) {
+                close();
+            }
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            releaseProbe();
+            open();
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(true);
+            if (windowCount >= minimumCalls && windowFailures >= failureRateThreshold * windowCount) {
+                open();
+            }
+        }
+    }
+
+    /**
+     * AI 서버 상태와 무관하게 끝난 호출 (클라이언트 오류, 호출 전 거절, 취소)
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            releaseProbe();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("state", state);
+        stats.put("failureRate", windowCount > 0 ? (double) windowFailures / windowCount : 0.0);
+        stats.put("windowCalls", windowCount);
+        stats.put("openCount", openCount);
+        stats.put("rejected", rejectedCount);
+        if (state == State.OPEN) {
+            stats.put("retryAfterMillis", Math.max(0, remainingOpenNanos() / 1_000_000));
+        }
+        return stats;
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    // OPEN 전에 시작된 호출이 HALF_OPEN 중에 끝날 수 있으므로 음수가 되지 않게 함
+    private void releaseProbe() {
+        if (probesInFlight > 0) {
+            probesInFlight--;
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        openCount++;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+
+    private long remainingOpenNanos() {
+        return openDuration.toNanos() - (System.nanoTime() - openedAt);
+    }
+
+    private AIServiceUnavailableException rejection(long remainingNanos) {
+        return new AIServiceUnavailableException(
+                "AI " + name + " 서버 장애로 요청을 일시적으로 차단했습니다. 잠시 후 다시 시도해주세요.",
+                Duration.ofNanos(Math.max(remainingNanos, 0)));
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.godsaengbackend.client;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 호출을 하나의 실제 호출로 합치는 single-flight
+ * 먼저 들어온 요청(리더)이 자기 스레드에서 호출을 실행하고, 그 사이 들어온 요청은 결과를 기다렸다가
+ * 같은 값 또는 같은 예외를 받습니다. 호출이 끝나면 키를 비우므로 결과를 보관하지는 않습니다.
+ * 리더가 timeout보다 오래 걸리면 이후 요청은 기다리지 않고 새 호출을 시작합니다.
+ */
+public class SingleFlight<K, V> {
+
+    private record Flight<V>(CompletableFuture<V> result, long startedAt) {
+    }
+
+    private final String name;
+    private final Duration timeout;
+    private final ConcurrentHashMap<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public SingleFlight(String name, Duration timeout, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.timeout = timeout;
+
+        // 요청 경로에서는 LongAdder만 증가시키고, 미터는 스크랩 시점에 값을 읽음
+        FunctionCounter.builder("single.flight.calls", calls, LongAdder::sum)
+                .description("실제로 실행한 호출 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        FunctionCounter.builder("single.flight.coalesced", coalesced, LongAdder::sum)
+                .description("진행 중인 호출에 합류해 생략한 호출 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        FunctionCounter.builder("single.flight.timeouts", timeouts, LongAdder::sum)
+                .description("합류 후 결과를 기다리다 시간 초과된 요청 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("single.flight.in.flight", inFlight, Map::size)
+                .description("진행 중인 호출 수")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 키의 호출이 진행 중이면 그 결과를 기다리고, 아니면 직접 실행합니다.
+     */
+    public V execute(K key, Supplier<V> call) {
+        Flight<V> mine = new Flight<>(new CompletableFuture<>(), System.nanoTime());
+        while (true) {
+            Flight<V> current = inFlight.putIfAbsent(key, mine);
+            if (current == null) {
+                return lead(key, mine, call);
+            }
+
+            long remaining = timeout.toNanos() - (System.nanoTime() - current.startedAt());
+            if (remaining > 0) {
+                coalesced.increment();
+                return await(current, remaining);
+            }
+
+            // 오래 걸리는 호출에는 합류하지 않고 새 호출로 교체
+            if (inFlight.replace(key, current, mine)) {
+                return lead(key, mine, call);
+            }
+        }
+    }
+
+    private V lead(K key, Flight<V> flight, Supplier<V> call) {
+        calls.increment();
+        try {
+            V value = call.get();
+            flight.result().complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            failures.increment();
+            flight.result().completeExceptionally(e);
+            throw e;
+        } catch (Error e) {
+            flight.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private V await(Flight<V> flight, long remainingNanos) {
+        try {
+            return flight.result().get(remainingNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            // 리더가 받은 예외를 그대로 전달
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new AIServiceUnavailableException(
+                    "AI " + name + " 응답 대기 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AIServiceUnavailableException("AI " + name + " 응답 대기 중 중단되었습니다.");
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("inFlight", inFlight.size());
+        stats.put("calls", calls.sum());
+        stats.put("coalesced", coalesced.sum());
+        stats.put("timeouts", timeouts.sum());
+        stats.put("failures", failures.sum());
+        return stats;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.godsaengbackend.config;
+
+import com.example.godsaengbackend.client.AIGatewayGuard;
+import com.example.godsaengbackend.client.AIGatewayPoolMetrics;
+import com.example.godsaengbackend.client.AdaptiveConcurrencyLimiter;
+import com.example.godsaengbackend.client.CircuitBreaker;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration
+public class AIGatewayConfig {
+
+    @Bean
+    public AIGatewayPoolMetrics aiGatewayPoolMetrics() {
+        return new AIGatewayPoolMetrics();
+    }
+
+    // AI 서버 전용 keep-alive 커넥션 풀
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider aiConnectionProvider(
+            AIGatewayPoolMetrics aiGatewayPoolMetrics,
+            @Value("${ai.gateway.max-connections:100}") int maxConnections,
+            @Value("${ai.gateway.pending-acquire-max:500}") int pendingAcquireMaxCount,
+            @Value("${ai.gateway.pending-acquire-timeout:5000}") long pendingAcquireTimeout,
+            @Value("${ai.gateway.max-idle-time:30000}") long maxIdleTime) {
+        return ConnectionProvider.builder("ai-gateway")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeout))
+                .maxIdleTime(Duration.ofMillis(maxIdleTime))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true, () -> aiGatewayPoolMetrics)
+                .build();
+    }
+
+    @Bean
+    public WebClient aiWebClient(
+            WebClient.Builder webClientBuilder,
+            ConnectionProvider aiConnectionProvider,
+            @Value("${ai.service.url}") String aiServiceUrl,
+            @Value("${ai.gateway.connect-timeout:3000}") int connectTimeout,
+            @Value("${ai.gateway.max-in-memory-size:2097152}") int maxInMemorySize) {
+        HttpClient httpClient = HttpClient.create(aiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true);
+
+        return webClientBuilder.clone()
+                .baseUrl(aiServiceUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(maxInMemorySize))
+                .build();
+    }
+
+    // /query 서킷 브레이커 + 적응형 동시 호출 한도 (최대 한도는 벌크헤드 크기)
+    @Bean
+    public AIGatewayGuard aiQueryGuard(
+            @Value("${ai.gateway.circuit.failure-rate-threshold:50}") int failureRateThreshold,
+            @Value("${ai.gateway.circuit.minimum-calls:10}") int minimumCalls,
+            @Value("${ai.gateway.circuit.window-size:20}") int windowSize,
+            @Value("${ai.gateway.circuit.open-duration:30000}") long openDuration,
+            @Value("${ai.gateway.circuit.half-open-probes:3}") int halfOpenProbes,
+            @Value("${ai.gateway.limit.min:2}") int minLimit,
+            @Value("${ai.gateway.limit.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${ai.gateway.query.limit.initial:20}") int initialLimit,
+            @Value("${ai.gateway.query.max-concurrent:50}") int maxLimit,
+            @Value("${ai.gateway.query.limit.latency-threshold:30000}") long latencyThreshold) {
+        return new AIGatewayGuard(
+                new CircuitBreaker("query", failureRateThreshold / 100.0, minimumCalls, windowSize,
+                        Duration.ofMillis(openDuration), halfOpenProbes),
+                new AdaptiveConcurrencyLimiter("query", initialLimit, minLimit, maxLimit,
+                        backoffRatio, Duration.ofMillis(latencyThreshold)));
+    }
+
+    // /process 서킷 브레이커 + 적응형 동시 호출 한도
+    @Bean
+    public AIGatewayGuard aiProcessGuard(
+            @Value("${ai.gateway.circuit.failure-rate-threshold:50}") int failureRateThreshold,
+            @Value("${ai.gateway.circuit.minimum-calls:10}") int minimumCalls,
+            @Value("${ai.gateway.circuit.window-size:20}") int windowSize,
+            @Value("${ai.gateway.circuit.open-duration:30000}") long openDuration,
+            @Value("${ai.gateway.circuit.half-open-probes:3}") int halfOpenProbes,
+            @Value("${ai.gateway.limit.min:2}") int minLimit,
+            @Value("${ai.gateway.limit.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${ai.gateway.process.limit.initial:10}") int initialLimit,
+            @Value("${ai.gateway.process.max-concurrent:20}") int maxLimit,
+            @Value("${ai.gateway.process.limit.latency-threshold:5000}") long latencyThreshold) {
+        return new AIGatewayGuard(
+                new CircuitBreaker("process", failureRateThreshold / 100.0, minimumCalls, windowSize,
+                        Duration.ofMillis(openDuration), halfOpenProbes),
+                new AdaptiveConcurrencyLimiter("process", initialLimit, minLimit, maxLimit,
+                        backoffRatio, Duration.ofMillis(latencyThreshold)));
+    }
+}
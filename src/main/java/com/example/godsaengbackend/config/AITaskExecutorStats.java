@@ -0,0 +1,129 @@
+package com.example.godsaengbackend.config;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AI 작업 실행기의 상태 수집기
+ * 작업을 감싸서 대기 시간(큐에서 기다린 시간)과 실행 시간, 실행 중인 작업 수를 기록합니다.
+ */
+public class AITaskExecutorStats implements TaskDecorator {
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalQueueNanos = new LongAdder();
+    private final LongAdder totalRunNanos = new LongAdder();
+    private final AtomicLong maxQueueNanos = new AtomicLong();
+    private final AtomicLong maxRunNanos = new AtomicLong();
+
+    // 모드에 따라 둘 중 하나만 설정됨
+    private volatile ThreadPoolTaskExecutor threadPool;
+    private volatile BoundedVirtualThreadTaskExecutor virtualThreads;
+
+    @Override
+    public Runnable decorate(Runnable task) {
+        long submittedAt = System.nanoTime();
+        submitted.increment();
+
+        return () -> {
+            long startedAt = System.nanoTime();
+            record(totalQueueNanos, maxQueueNanos, startedAt - submittedAt);
+            active.incrementAndGet();
+            try {
+                task.run();
+            } catch (RuntimeException | Error e) {
+                failed.increment();
+                throw e;
+            } finally {
+                active.decrementAndGet();
+                completed.increment();
+                record(totalRunNanos, maxRunNanos, System.nanoTime() - startedAt);
+            }
+        };
+    }
+
+    /**
+     * 거절 횟수를 센 뒤 원래 거절 정책을 적용하는 핸들러를 반환합니다.
+     */
+    public RejectedExecutionHandler countingRejections(RejectedExecutionHandler delegate) {
+        return (task, executor) -> {
+            rejected.increment();
+            delegate.rejectedExecution(task, executor);
+        };
+    }
+
+    void recordRejected() {
+        rejected.increment();
+    }
+
+    void bind(ThreadPoolTaskExecutor threadPool) {
+        this.threadPool = threadPool;
+    }
+
+    void bind(BoundedVirtualThreadTaskExecutor virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    public int getQueueSize() {
+        ThreadPoolTaskExecutor pool = threadPool;
+        if (pool != null) {
+            return pool.getQueueSize();
+        }
+        BoundedVirtualThreadTaskExecutor virtual = virtualThreads;
+        return virtual != null ? virtual.getQueueSize() : 0;
+    }
+
+    public Map<String, Object> stats() {
+        long completedCount = completed.sum();
+        ThreadPoolTaskExecutor pool = threadPool;
+        BoundedVirtualThreadTaskExecutor virtual = virtualThreads;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("mode", pool != null ? "thread-pool" : "virtual-threads");
+        stats.put("active", active.get());
+        if (pool != null) {
+            stats.put("poolSize", pool.getPoolSize());
+            stats.put("corePoolSize", pool.getCorePoolSize());
+            stats.put("maxPoolSize", pool.getMaxPoolSize());
+            stats.put("queueSize", pool.getQueueSize());
+            stats.put("queueCapacity", pool.getQueueCapacity());
+        } else if (virtual != null) {
+            stats.put("maxConcurrent", virtual.getMaxConcurrent());
+            stats.put("queueSize", virtual.getQueueSize());
+            stats.put("queueCapacity", virtual.getQueueCapacity());
+        }
+        stats.put("submitted", submitted.sum());
+        stats.put("completed", completedCount);
+        stats.put("failed", failed.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("avgQueueMillis", completedCount == 0 ? 0 : toMillis(totalQueueNanos.sum() / completedCount));
+        stats.put("maxQueueMillis", toMillis(maxQueueNanos.get()));
+        stats.put("avgRunMillis", completedCount == 0 ? 0 : toMillis(totalRunNanos.sum() / completedCount));
+        stats.put("maxRunMillis", toMillis(maxRunNanos.get()));
+        return stats;
+    }
+
+    private static void record(LongAdder total, AtomicLong max, long nanos) {
+        total.add(nanos);
+        max.accumulateAndGet(nanos, Math::max);
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.godsaengbackend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * AI 작업(업로드 전송, 아웃박스 디스패치, @Async) 전용 실행기 설정
+ */
+@Configuration
+public class AsyncConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncConfig.class);
+
+    @Bean
+    public AITaskExecutorStats aiTaskExecutorStats() {
+        return new AITaskExecutorStats();
+    }
+
+    // "taskExecutor" 별칭으로 등록해서 @Async 기본 실행기로도 사용
+    @Bean(name = {"aiTaskExecutor", "taskExecutor"})
+    public AsyncTaskExecutor aiTaskExecutor(
+            AITaskExecutorStats aiTaskExecutorStats,
+            @Value("${ai.executor.core-pool-size:4}") int corePoolSize,
+            @Value("${ai.executor.max-pool-size:16}") int maxPoolSize,
+            @Value("${ai.executor.queue-capacity:200}") int queueCapacity,
+            @Value("${ai.executor.rejection-policy:ABORT}") RejectionPolicy rejectionPolicy,
+            @Value("${ai.executor.virtual-threads:false}") boolean virtualThreads) {
+
+        if (virtualThreads) {
+            // 스레드 풀 모드와 같은 한도(동시 실행 max-pool-size, 대기 queue-capacity)와 거절 정책을 적용
+            BoundedVirtualThreadTaskExecutor executor = new BoundedVirtualThreadTaskExecutor(
+                    "ai-vt-", maxPoolSize, queueCapacity, rejectionPolicy, aiTaskExecutorStats);
+            aiTaskExecutorStats.bind(executor);
+            logger.info("AI 작업 실행기: 가상 스레드 모드 (concurrent={}, queue={}, rejection={})",
+                    maxPoolSize, queueCapacity, rejectionPolicy);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("ai-");
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setKeepAliveSeconds(60);
+        executor.setTaskDecorator(aiTaskExecutorStats);
+        executor.setRejectedExecutionHandler(aiTaskExecutorStats.countingRejections(rejectionPolicy.handler()));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        aiTaskExecutorStats.bind(executor);
+        logger.info("AI 작업 실행기: 스레드 풀 모드 (core={}, max={}, queue={}, rejection={})",
+                corePoolSize, maxPoolSize, queueCapacity, rejectionPolicy);
+        return executor;
+    }
+
+    /**
+     * 큐가 가득 찼을 때의 처리 방식
+     * AI 전송은 스케줄러 스레드(AIJobDispatcher)에서 제출하므로 기본은 ABORT이고,
+     * 디스패처는 거절되면 점유를 풀고 다음 주기에 다시 시도합니다 (back-pressure).
+     */
+    public enum RejectionPolicy {
+        CALLER_RUNS,  // 제출한 스레드가 직접 실행 (전송이 끝날 때까지 스케줄러 스레드가 붙잡힘)
+        ABORT;        // 즉시 거절 (TaskRejectedException)
+
+        RejectedExecutionHandler handler() {
+            return this == CALLER_RUNS ? new ThreadPoolExecutor.CallerRunsPolicy() : new ThreadPoolExecutor.AbortPolicy();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.godsaengbackend.config;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 가상 스레드 모드의 AI 작업 실행기
+ * 작업마다 가상 스레드를 만들되 스레드 풀 모드와 같은 한도를 둡니다.
+ * 동시에 실행하는 작업은 maxConcurrent건, 실행 순서를 기다리는 작업은 queueCapacity건까지이며,
+ * 그보다 많이 제출되면 제출한 스레드를 막지 않고 거절 정책에 따라 TaskRejectedException을 던지거나 제출한 스레드에서 실행합니다.
+ * (SimpleAsyncTaskExecutor의 concurrencyLimit은 한도에 도달하면 제출한 스레드를 대기시키므로 사용하지 않음)
+ */
+public class BoundedVirtualThreadTaskExecutor implements AsyncTaskExecutor {
+
+    private final ThreadFactory threadFactory;
+    private final AITaskExecutorStats stats;
+    private final AsyncConfig.RejectionPolicy rejectionPolicy;
+    private final int maxConcurrent;
+    private final int queueCapacity;
+
+    // 실행 중 + 대기 중인 작업 자리 (제출 시 tryAcquire)
+    private final Semaphore accepted;
+    // 실행 중인 작업 자리 (가상 스레드 안에서 대기하므로 OS 스레드를 붙잡지 않음)
+    private final Semaphore running;
+
+    public BoundedVirtualThreadTaskExecutor(String threadNamePrefix, int maxConcurrent, int queueCapacity,
+                                            AsyncConfig.RejectionPolicy rejectionPolicy, AITaskExecutorStats stats) {
+        this.threadFactory = Thread.ofVirtual().name(threadNamePrefix, 0).factory();
+        this.maxConcurrent = maxConcurrent;
+        this.queueCapacity = queueCapacity;
+        this.rejectionPolicy = rejectionPolicy;
+        this.stats = stats;
+        this.accepted = new Semaphore(maxConcurrent + queueCapacity);
+        this.running = new Semaphore(maxConcurrent, true);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Runnable decorated = stats.decorate(task);
+        if (!accepted.tryAcquire()) {
+            stats.recordRejected();
+            if (rejectionPolicy == AsyncConfig.RejectionPolicy.CALLER_RUNS) {
+                decorated.run();
+                return;
+            }
+            throw new TaskRejectedException("AI 작업 실행기가 가득 찼습니다: 실행 " + maxConcurrent
+                    + "건, 대기 " + queueCapacity + "건");
+        }
+        try {
+            threadFactory.newThread(() -> runBounded(decorated)).start();
+        } catch (RuntimeException | Error e) {
+            accepted.release();
+            throw new TaskRejectedException("AI 작업 스레드를 시작하지 못했습니다.", e);
+        }
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public int getQueueSize() {
+        return Math.max(0, (maxConcurrent + queueCapacity - accepted.availablePermits())
+                - (maxConcurrent - running.availablePermits()));
+    }
+
+    private void runBounded(Runnable task) {
+        try {
+            running.acquire();
+        } catch (InterruptedException e) {
+            accepted.release();
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            task.run();
+        } finally {
+            running.release();
+            accepted.release();
+        }
+    }
+}
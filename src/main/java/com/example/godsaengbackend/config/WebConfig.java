@@ -1,14 +1,14 @@
 package com.example.godsaengbackend.config;
 
-import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 @EnableAsync  // 비동기 처리를 위한 어노테이션 추가
+@EnableScheduling  // AI 아웃박스 디스패처 주기 실행
 public class WebConfig implements WebMvcConfigurer {
 
     @Override
@@ -21,9 +21,4 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(true) // 쿠키 전송 허용
                 .maxAge(3600);
     }
-    
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
-    }
 } 
\ No newline at end of file
@@ -2,12 +2,13 @@ package com.example.godsaengbackend.controller;
 
 import com.example.godsaengbackend.dto.AICallbackDTO;
 import com.example.godsaengbackend.entity.Lecture;
-import com.example.godsaengbackend.service.AIService;
-import com.example.godsaengbackend.service.LectureService;
+import com.example.godsaengbackend.service.AICallbackService;
 import com.example.godsaengbackend.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -20,12 +21,13 @@ public class AICallbackController {
 
     private static final Logger logger = LoggerFactory.getLogger(AICallbackController.class);
     
-    private final LectureService lectureService;
-    private final AIService aiService;
+    private final AICallbackService aiCallbackService;
+    private final long retryAfterSeconds;
 
-    public AICallbackController(LectureService lectureService, AIService aiService) {
-        this.lectureService = lectureService;
-        this.aiService = aiService;
+    public AICallbackController(AICallbackService aiCallbackService,
+                                @Value("${ai.callback.retry-after-seconds:5}") long retryAfterSeconds) {
+        this.aiCallbackService = aiCallbackService;
+        this.retryAfterSeconds = retryAfterSeconds;
     }
 
     @PostMapping("/callback/complete")
@@ -34,9 +36,15 @@ public class AICallbackController {
                    callbackData.getLecture_id(), callbackData.getTask_id());
         
         try {
-            // AI 서버에서 받은 데이터로 강의 업데이트
-            lectureService.updateLectureWithAIResult(callbackData);
-            return ResponseEntity.ok().body(Map.of("status", "success"));
+            // 인박스에 저장한 뒤 응답하고 반영은 백그라운드 배치로 진행 (이미 처리한 콜백은 반영하지 않고 성공 응답)
+            return switch (aiCallbackService.accept(callbackData)) {
+                case ACCEPTED -> ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of("status", "accepted"));
+                case DUPLICATE -> ResponseEntity.ok().body(Map.of("status", "duplicate"));
+                // 인박스에 저장하지 못하면 AI 서버가 잠시 후 재전송하도록 요청
+                case REJECTED -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                        .body(Map.of("status", "busy"));
+            };
         } catch (Exception e) {
             logger.error("콜백 처리 오류: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
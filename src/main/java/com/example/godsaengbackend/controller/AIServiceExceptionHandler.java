@@ -0,0 +1,37 @@
+package com.example.godsaengbackend.controller;
+
+import com.example.godsaengbackend.client.AIServiceUnavailableException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * AI 서버 호출 거절(동시 호출 한도 초과, 서킷 차단 등)을 503 + Retry-After로 응답합니다.
+ */
+@RestControllerAdvice
+public class AIServiceExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(AIServiceExceptionHandler.class);
+
+    @ExceptionHandler(AIServiceUnavailableException.class)
+    public ResponseEntity<Map<String, String>> handleAIServiceUnavailable(AIServiceUnavailableException ex,
+                                                                          HttpServletRequest request) {
+        logger.warn("AI 서버 호출 거절: path={}, error={}", request.getRequestURI(), ex.getMessage());
+
+        Map<String, String> response = new HashMap<>();
+        response.put("error", ex.getMessage());
+        response.put("path", request.getRequestURI());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+}
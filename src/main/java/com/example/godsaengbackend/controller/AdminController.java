@@ -0,0 +1,129 @@
+package com.example.godsaengbackend.controller;
+
+import com.example.godsaengbackend.cache.AnswerCache;
+import com.example.godsaengbackend.cache.LectureDetailCache;
+import com.example.godsaengbackend.cache.UserDetailsCache;
+import com.example.godsaengbackend.client.AIGatewayClient;
+import com.example.godsaengbackend.config.AITaskExecutorStats;
+import com.example.godsaengbackend.ratelimit.RateLimitFilter;
+import com.example.godsaengbackend.service.AICallbackService;
+import com.example.godsaengbackend.service.AIOutboxService;
+import com.example.godsaengbackend.service.ChatService;
+import com.example.godsaengbackend.service.LectureStatusNotifier;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    private final AIGatewayClient aiGatewayClient;
+    private final AITaskExecutorStats aiTaskExecutorStats;
+    private final UserDetailsCache userDetailsCache;
+    private final LectureDetailCache lectureDetailCache;
+    private final AnswerCache answerCache;
+    private final AICallbackService aiCallbackService;
+    private final ChatService chatService;
+    private final RateLimitFilter rateLimitFilter;
+    private final AIOutboxService aiOutboxService;
+    private final LectureStatusNotifier lectureStatusNotifier;
+
+    public AdminController(AIGatewayClient aiGatewayClient, AITaskExecutorStats aiTaskExecutorStats,
+                           UserDetailsCache userDetailsCache, LectureDetailCache lectureDetailCache,
+                           AnswerCache answerCache, AICallbackService aiCallbackService,
+                           ChatService chatService, RateLimitFilter rateLimitFilter,
+                           AIOutboxService aiOutboxService, LectureStatusNotifier lectureStatusNotifier) {
+        this.aiGatewayClient = aiGatewayClient;
+        this.aiTaskExecutorStats = aiTaskExecutorStats;
+        this.userDetailsCache = userDetailsCache;
+        this.lectureDetailCache = lectureDetailCache;
+        this.answerCache = answerCache;
+        this.aiCallbackService = aiCallbackService;
+        this.chatService = chatService;
+        this.rateLimitFilter = rateLimitFilter;
+        this.aiOutboxService = aiOutboxService;
+        this.lectureStatusNotifier = lectureStatusNotifier;
+    }
+
+    /**
+     * AI 게이트웨이 커넥션 풀 및 벌크헤드 대기열 상태를 조회합니다.
+     */
+    @GetMapping("/ai-gateway")
+    public ResponseEntity<Map<String, Object>> getAIGatewayStats() {
+        return ResponseEntity.ok(aiGatewayClient.stats());
+    }
+
+    /**
+     * AI 작업 실행기의 실행 중 작업 수, 큐 길이, 대기/실행 시간을 조회합니다.
+     */
+    @GetMapping("/ai-executor")
+    public ResponseEntity<Map<String, Object>> getAIExecutorStats() {
+        return ResponseEntity.ok(aiTaskExecutorStats.stats());
+    }
+
+    /**
+     * JWT 인증 주체 캐시의 크기와 적중률을 조회합니다.
+     */
+    @GetMapping("/auth-cache")
+    public ResponseEntity<Map<String, Object>> getAuthCacheStats() {
+        return ResponseEntity.ok(userDetailsCache.stats());
+    }
+
+    /**
+     * 완료된 강의 상세 캐시의 크기, 적중/미스, 축출 통계를 조회합니다.
+     */
+    @GetMapping("/lecture-cache")
+    public ResponseEntity<Map<String, Object>> getLectureCacheStats() {
+        return ResponseEntity.ok(lectureDetailCache.stats());
+    }
+
+    /**
+     * AI 답변 캐시의 크기, 적중/미스(메모리, 영속 저장소) 통계를 조회합니다.
+     */
+    @GetMapping("/answer-cache")
+    public ResponseEntity<Map<String, Object>> getAnswerCacheStats() {
+        return ResponseEntity.ok(answerCache.stats());
+    }
+
+    /**
+     * 동일한 AI 질의 합치기 통계를 조회합니다. coalesced가 생략된 AI 서버 호출 수입니다.
+     */
+    @GetMapping("/ai-coalescing")
+    public ResponseEntity<Map<String, Object>> getAICoalescingStats() {
+        return ResponseEntity.ok(chatService.queryCoalescingStats());
+    }
+
+    /**
+     * 사용자별 처리율 한도 설정(등급별)과 허용/거절 수를 조회합니다.
+     */
+    @GetMapping("/rate-limit")
+    public ResponseEntity<Map<String, Object>> getRateLimitStats() {
+        return ResponseEntity.ok(rateLimitFilter.stats());
+    }
+
+    /**
+     * AI 강의 처리 대기열 길이, 처리 중 작업 수, 평균 처리 시간, 대기열 앞쪽 작업을 조회합니다.
+     */
+    @GetMapping("/ai-scheduler")
+    public ResponseEntity<Map<String, Object>> getAISchedulerStats() {
+        return ResponseEntity.ok(aiOutboxService.schedulerStats());
+    }
+
+    /**
+     * 강의 상태 알림(SSE) 연결 수와 전송/정리 건수를 조회합니다.
+     */
+    @GetMapping("/lecture-events")
+    public ResponseEntity<Map<String, Object>> getLectureEventStats() {
+        return ResponseEntity.ok(lectureStatusNotifier.stats());
+    }
+
+    /**
+     * AI 완료 콜백 반영/중복 거절 건수를 조회합니다.
+     */
+    @GetMapping("/ai-callbacks")
+    public ResponseEntity<Map<String, Object>> getAICallbackStats() {
+        return ResponseEntity.ok(aiCallbackService.stats());
+    }
+}
@@ -1,15 +1,20 @@
 package com.example.godsaengbackend.controller;
 
+import com.example.godsaengbackend.client.AIServiceUnavailableException;
 import com.example.godsaengbackend.dto.ChatHistoryDTO;
 import com.example.godsaengbackend.dto.ChatRequestDTO;
 import com.example.godsaengbackend.dto.ChatResponseDTO;
 import com.example.godsaengbackend.service.ChatService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -20,9 +25,11 @@ public class ChatController {
 
     private static final Logger logger = LoggerFactory.getLogger(ChatController.class);
     private final ChatService chatService;
+    private final AIServiceExceptionHandler aiServiceExceptionHandler;
 
-    public ChatController(ChatService chatService) {
+    public ChatController(ChatService chatService, AIServiceExceptionHandler aiServiceExceptionHandler) {
         this.chatService = chatService;
+        this.aiServiceExceptionHandler = aiServiceExceptionHandler;
     }
 
     /**
@@ -46,16 +53,33 @@ public class ChatController {
     }
 
     /**
-     * 강의별 채팅 기록을 조회합니다.
+     * 강의에 대한 질문을 전송하고 AI 응답을 SSE(text/event-stream)로 스트리밍합니다.
+     */
+    @PostMapping(value = "/lectures/{lectureId}/questions/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamQuestion(
+            @RequestAttribute("email") String email,
+            @PathVariable Long lectureId,
+            @Valid @RequestBody ChatRequestDTO request) {
+
+        logger.debug("스트리밍 질문 전송 요청: email={}, lectureId={}, question={}",
+                email, lectureId, request.getQuestion());
+
+        return chatService.streamQuestion(email, lectureId, request);
+    }
+
+    /**
+     * 강의별 채팅 기록을 조회합니다. cursor와 size가 모두 없으면 전체 기록을 반환합니다.
      */
     @GetMapping("/lectures/{lectureId}/history")
     public ResponseEntity<ChatHistoryDTO> getChatHistory(
             @RequestAttribute("email") String email,
-            @PathVariable Long lectureId) {
+            @PathVariable Long lectureId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
 
-        logger.debug("채팅 기록 조회 요청: email={}, lectureId={}", email, lectureId);
+        logger.debug("채팅 기록 조회 요청: email={}, lectureId={}, cursor={}, size={}", email, lectureId, cursor, size);
 
-        ChatHistoryDTO history = chatService.getChatHistory(email, lectureId);
+        ChatHistoryDTO history = chatService.getChatHistory(email, lectureId, cursor, size);
 
         logger.debug("채팅 기록 조회 완료: lectureId={}, messageCount={}",
                 history.getLectureId(), history.getMessages().size());
@@ -65,9 +89,13 @@ public class ChatController {
 
     /**
      * 오류 처리
+     * 컨트롤러의 핸들러가 전역 핸들러보다 먼저 적용되므로 AI 서버 호출 거절은 공통 핸들러로 넘깁니다.
      */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<Map<String, String>> handleException(Exception e) {
+    public ResponseEntity<Map<String, String>> handleException(Exception e, HttpServletRequest request) {
+        if (e instanceof AIServiceUnavailableException unavailable) {
+            return aiServiceExceptionHandler.handleAIServiceUnavailable(unavailable, request);
+        }
         logger.error("API 오류 발생: {}", e.getMessage(), e);
 
         Map<String, String> error = new HashMap<>();
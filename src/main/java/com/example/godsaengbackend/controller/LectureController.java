@@ -1,18 +1,34 @@
 package com.example.godsaengbackend.controller;
 
+import com.example.godsaengbackend.dto.AIQueueStatusDto;
 import com.example.godsaengbackend.dto.LectureDto;
+import com.example.godsaengbackend.dto.TranscriptSegmentsDto;
+import com.example.godsaengbackend.dto.UploadProgressDto;
 import com.example.godsaengbackend.entity.Lecture;
-import com.example.godsaengbackend.service.AIService;
+import com.example.godsaengbackend.entity.LectureArtifact;
+import com.example.godsaengbackend.service.LectureArtifactService;
 import com.example.godsaengbackend.service.LectureService;
+import com.example.godsaengbackend.service.LectureUploadService;
 import jakarta.validation.Valid;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -20,11 +36,14 @@ import java.util.Map;
 public class LectureController {
 
     private final LectureService lectureService;
-    private final AIService aiService;
+    private final LectureUploadService lectureUploadService;
+    private final LectureArtifactService lectureArtifactService;
 
-    public LectureController(LectureService lectureService, AIService aiService) {
+    public LectureController(LectureService lectureService, LectureUploadService lectureUploadService,
+                             LectureArtifactService lectureArtifactService) {
         this.lectureService = lectureService;
-        this.aiService = aiService;
+        this.lectureUploadService = lectureUploadService;
+        this.lectureArtifactService = lectureArtifactService;
     }
 
     @PostMapping
@@ -70,16 +89,38 @@ public class LectureController {
                 .remainingDays(remainingDays)
                 .build();
         
-        // 먼저 강의 객체 생성
-        LectureDto.Response lectureResponse = lectureService.createLecture(email, request);
+        // 파일을 로컬에 저장하고 강의 생성 후 바로 응답 (AI 서버 전송은 백그라운드에서 진행)
+        LectureDto.Response lectureResponse = lectureUploadService.accept(email, file, request);
         
-        // 파일을 AI 서비스로 직접 업로드하고 task_id 받기 (lecture_id 포함)
-        String taskId = aiService.uploadFileToAIService(file, lectureResponse.getId());
-        
-        // 강의 객체의 videoUrl 업데이트 (taskId로)
-        lectureService.updateLectureTaskId(lectureResponse.getId(), taskId);
-        
-        return ResponseEntity.status(HttpStatus.CREATED).body(lectureResponse);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/api/lectures/" + lectureResponse.getId() + "/upload-status"))
+                .body(lectureResponse);
+    }
+
+    @GetMapping("/{lectureId}/upload-status")
+    public ResponseEntity<UploadProgressDto> getUploadStatus(
+            @RequestAttribute("email") String email,
+            @PathVariable Long lectureId) {
+        return ResponseEntity.ok(lectureUploadService.getProgress(email, lectureId));
+    }
+
+    /**
+     * 내 강의의 상태 변경(PROCESSING → COMPLETED/FAILED)을 SSE로 받습니다.
+     * 연결 후 목록을 한 번 조회하고, 이후에는 lecture-status 이벤트가 온 강의만 다시 조회하면 됩니다.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeLectureEvents(@RequestAttribute("email") String email) {
+        return lectureService.subscribeStatusEvents(email);
+    }
+
+    /**
+     * AI 처리 대기열에서의 순번과 예상 시작/완료 시간을 조회합니다.
+     */
+    @GetMapping("/{lectureId}/queue")
+    public ResponseEntity<AIQueueStatusDto> getQueueStatus(
+            @RequestAttribute("email") String email,
+            @PathVariable Long lectureId) {
+        return ResponseEntity.ok(lectureService.getQueueStatus(email, lectureId));
     }
 
     @GetMapping
@@ -89,11 +130,118 @@ public class LectureController {
         return ResponseEntity.ok(lectureService.getLectures(email, pageable));
     }
 
+    /**
+     * 강의 상세 정보를 조회합니다.
+     * includeTranscript=false이면 스크립트를 제외하고, 스크립트는 /transcript에서 따로 받습니다.
+     */
     @GetMapping("/{lectureId}")
     public ResponseEntity<LectureDto.DetailResponse> getLecture(
             @RequestAttribute("email") String email,
-            @PathVariable Long lectureId) {
-        return ResponseEntity.ok(lectureService.getLecture(email, lectureId));
+            @PathVariable Long lectureId,
+            @RequestParam(defaultValue = "true") boolean includeTranscript) {
+        LectureDto.DetailResponse detail = lectureService.getLecture(email, lectureId);
+        if (!includeTranscript) {
+            // 캐시된 응답 객체를 바꾸지 않도록 사본에서 제외
+            detail = detail.toBuilder().transcript(null).build();
+        }
+        return ResponseEntity.ok(detail);
+    }
+
+    /**
+     * 강의 스크립트를 text/plain으로 조회합니다.
+     * - Range: bytes=... 요청(한 구간)은 206 Partial Content로 해당 바이트 구간만 압축을 풀며 전송
+     * - ETag/If-None-Match 조건부 요청 지원 (변경 없으면 304)
+     * - Range 없이 gzip을 받는 클라이언트에는 저장된 압축본을 그대로, 아니면 압축을 풀면서 스트리밍
+     */
+    @GetMapping("/{lectureId}/transcript")
+    public ResponseEntity<Resource> getTranscript(
+            @RequestAttribute("email") String email,
+            @PathVariable Long lectureId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range) {
+
+        LectureArtifact artifact = lectureService.getArtifact(email, lectureId, LectureArtifact.ArtifactType.TRANSCRIPT);
+        String digest = DigestUtils.md5DigestAsHex(artifact.getContent());
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        List<HttpRange> ranges = parseRanges(range);
+        if (ranges.size() == 1) {
+            // 구간 요청은 압축 해제된 UTF-8 바이트 기준. 구간 시작까지 건너뛰며 압축을 풀고 구간 길이만큼만 읽음
+            long length = artifact.getOriginalSize();
+            HttpRange byteRange = ranges.get(0);
+            long start = byteRange.getRangeStart(length);
+            if (start >= length) {
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + length)
+                        .build();
+            }
+            long end = byteRange.getRangeEnd(length);
+            return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                    .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length)
+                    .eTag(digest)
+                    .contentLength(end - start + 1)
+                    .body(new InputStreamResource(lectureArtifactService.openRange(artifact, start, end - start + 1)));
+        }
+        // 여러 구간이나 해석할 수 없는 Range는 무시하고 전체를 전송
+        if (acceptsGzip(acceptEncoding)) {
+            // 인코딩이 다른 표현이므로 ETag도 구분
+            return response.eTag(digest + "-gzip")
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentLength(artifact.getContent().length)
+                    .body(new ByteArrayResource(artifact.getContent()));
+        }
+        return response.eTag(digest)
+                .contentLength(artifact.getOriginalSize())
+                .body(new InputStreamResource(lectureArtifactService.openStream(artifact)));
+    }
+
+    /**
+     * 강의 스크립트를 구간 단위로 조회합니다 (첫 화면만 필요한 모바일 클라이언트용).
+     */
+    @GetMapping("/{lectureId}/transcript/segments")
+    public ResponseEntity<TranscriptSegmentsDto> getTranscriptSegments(
+            @RequestAttribute("email") String email,
+            @PathVariable Long lectureId,
+            @RequestParam(defaultValue = "0") int from,
+            @RequestParam(defaultValue = "20") int count) {
+
+        LectureArtifact artifact = lectureService.getArtifact(email, lectureId, LectureArtifact.ArtifactType.TRANSCRIPT);
+        TranscriptSegmentsDto body = lectureArtifactService.segments(
+                artifact, Math.max(0, from), Math.max(1, Math.min(count, 200)));
+
+        return ResponseEntity.ok()
+                .eTag(DigestUtils.md5DigestAsHex(artifact.getContent()))
+                .body(body);
+    }
+
+    /**
+     * 강의 자료(transcript, summary, expected-questions, study-plan)를 텍스트로 조회합니다.
+     * 클라이언트가 gzip을 받을 수 있으면 저장된 압축본을 그대로 전송합니다.
+     */
+    @GetMapping("/{lectureId}/artifacts/{type}")
+    public ResponseEntity<byte[]> getArtifact(
+            @RequestAttribute("email") String email,
+            @PathVariable Long lectureId,
+            @PathVariable String type,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        LectureArtifact artifact = lectureService.getArtifact(email, lectureId, LectureArtifact.ArtifactType.fromPath(type));
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(artifact.getContent());
+        }
+        return response.body(lectureArtifactService.decode(artifact).getBytes(StandardCharsets.UTF_8));
     }
 
     @DeleteMapping("/{lectureId}")
@@ -108,4 +256,29 @@ public class LectureController {
             "message", "강의가 성공적으로 삭제되었습니다."
         ));
     }
+
+    private static List<HttpRange> parseRanges(String range) {
+        if (range == null) {
+            return List.of();
+        }
+        try {
+            return HttpRange.parseRanges(range);
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+
+    // Accept-Encoding에 gzip이 있고 q=0으로 거부하지 않은 경우
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
 }
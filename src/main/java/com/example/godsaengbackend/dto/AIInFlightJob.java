@@ -0,0 +1,11 @@
+package com.example.godsaengbackend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 서버에 전송했고 강의가 아직 처리 중인 작업 프로젝션 (재시작 시 처리 중 슬롯 복원용)
+ */
+public interface AIInFlightJob {
+    Long getLectureId();
+    LocalDateTime getSentAt();
+}
@@ -0,0 +1,16 @@
+package com.example.godsaengbackend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 작업 스케줄러가 우선순위를 정하는 데 필요한 전송 대기 요청 정보 프로젝션
+ * 요청 본문(payload)이나 파일은 읽지 않고, 강의의 남은 일수와 소유자 이메일만 함께 조회합니다.
+ * sourceId는 아웃박스 ID 또는 업로드 작업 ID입니다.
+ */
+public interface AIJobCandidate {
+    Long getSourceId();
+    Long getLectureId();
+    LocalDateTime getCreatedAt();
+    Integer getRemainingDays();
+    String getEmail();
+}
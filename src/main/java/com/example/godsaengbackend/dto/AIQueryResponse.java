@@ -0,0 +1,67 @@
+package com.example.godsaengbackend.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * AI 서버 /query 응답
+ * 서버 버전에 따라 다음 형태가 모두 올 수 있어 하나의 모델로 받습니다.
+ * {"data": {"answer": ...}}, {"data": "..."}, {"answer": ...}, {"response": ...},
+ * 그리고 이들을 감싼 배열([{...}], 첫 번째 요소만 사용)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class AIQueryResponse {
+    private Payload data;
+    private String answer;
+    private String response;
+
+    // 배열 형태 응답은 첫 번째 요소로 변환
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static AIQueryResponse firstOf(List<AIQueryResponse> items) {
+        return items.isEmpty() ? new AIQueryResponse() : items.get(0);
+    }
+
+    // JSON이 아닌 응답 본문은 그 자체를 답변으로 사용
+    public static AIQueryResponse ofText(String text) {
+        return new AIQueryResponse(null, text, null);
+    }
+
+    /**
+     * 답변을 data.answer → data(문자열) → answer → response 순서로 찾습니다. 없으면 null입니다.
+     */
+    public String resolveAnswer() {
+        if (data != null && data.getAnswer() != null) {
+            return data.getAnswer();
+        }
+        if (data != null && data.getText() != null) {
+            return data.getText();
+        }
+        return answer != null ? answer : response;
+    }
+
+    /**
+     * data 필드: {"answer": ...} 객체 또는 문자열
+     */
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Payload {
+        private String answer;
+        private String text;
+
+        @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+        public static Payload ofText(String text) {
+            Payload payload = new Payload();
+            payload.text = text;
+            return payload;
+        }
+    }
+}
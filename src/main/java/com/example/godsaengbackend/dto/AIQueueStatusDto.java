@@ -0,0 +1,31 @@
+package com.example.godsaengbackend.dto;
+
+import com.example.godsaengbackend.cache.UserTierCache;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AIQueueStatusDto {
+    private Long lectureId;
+    private QueueState state;
+    private UserTierCache.Tier tier;
+    // 대기열 순번 (1부터, QUEUED일 때만)
+    private Integer position;
+    private int queueLength;
+    private int inFlight;
+    private int maxInFlight;
+    // 최근 작업 처리 시간(전송 ~ 완료) 평균으로 계산한 추정치 (초)
+    private Long estimatedStartSeconds;
+    private Long estimatedCompletionSeconds;
+
+    public enum QueueState {
+        QUEUED,      // AI 서버 전송 대기 중
+        DISPATCHED,  // AI 서버로 전송되어 처리 중
+        NOT_QUEUED   // 대기 중인 작업 없음 (완료, 실패, 재시도 대기 등)
+    }
+}
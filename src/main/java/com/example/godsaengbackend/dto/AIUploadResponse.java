@@ -0,0 +1,22 @@
+package com.example.godsaengbackend.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * AI 서버 /process 파일 업로드 응답
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class AIUploadResponse {
+    @JsonProperty("task_id")
+    private String taskId;
+
+    @JsonProperty("file_url")
+    private String fileUrl;
+}
@@ -15,4 +15,5 @@ public class ChatHistoryDTO {
     private Long lectureId;
     private String lectureTitle;
     private List<ChatResponseDTO> messages;
+    private Long nextCursor;  // 이전 대화를 더 불러올 때 cursor로 전달 (없으면 null)
 } 
\ No newline at end of file
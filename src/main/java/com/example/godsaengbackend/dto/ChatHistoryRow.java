@@ -0,0 +1,22 @@
+package com.example.godsaengbackend.dto;
+
+import com.example.godsaengbackend.entity.ChatMessage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 기록 조회용 프로젝션 (질문과 그에 대한 답변 한 쌍)
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 읽습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ChatHistoryRow {
+    private Long questionId;
+    private String question;
+    private LocalDateTime createdAt;
+    private Long answerId;
+    private String answer;
+    private ChatMessage.MessageStatus answerStatus;
+}
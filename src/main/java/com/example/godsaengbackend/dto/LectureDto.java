@@ -1,6 +1,7 @@
 package com.example.godsaengbackend.dto;
 
 import com.example.godsaengbackend.entity.Lecture;
+import com.example.godsaengbackend.entity.LectureArtifact.ArtifactType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,6 +10,8 @@ import lombok.NoArgsConstructor;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Supplier;
 
 public class LectureDto {
 
@@ -62,10 +65,25 @@ public class LectureDto {
                     .remainingDays(lecture.getRemainingDays())
                     .build();
         }
+
+        public static Response fromSummary(LectureSummary summary) {
+            return Response.builder()
+                    .id(summary.getId())
+                    .title(summary.getTitle())
+                    .description(summary.getDescription())
+                    .sourceType(summary.getSourceType())
+                    .videoUrl(summary.getVideoUrl())
+                    .status(summary.getStatus())
+                    .embeddingSynced(summary.getEmbeddingSynced())
+                    .createdAt(summary.getCreatedAt())
+                    .updatedAt(summary.getUpdatedAt())
+                    .remainingDays(summary.getRemainingDays())
+                    .build();
+        }
     }
     
     @Data
-    @Builder
+    @Builder(toBuilder = true)
     @NoArgsConstructor
     @AllArgsConstructor
     public static class DetailResponse {
@@ -102,5 +120,32 @@ public class LectureDto {
                     .remainingDays(lecture.getRemainingDays())
                     .build();
         }
+
+        /**
+         * 압축 저장소의 자료를 우선 사용하고, 없으면 기존 lectures 테이블 컬럼을 사용합니다.
+         */
+        public static DetailResponse fromEntity(Lecture lecture, Map<ArtifactType, String> artifacts) {
+            return DetailResponse.builder()
+                    .id(lecture.getId())
+                    .title(lecture.getTitle())
+                    .description(lecture.getDescription())
+                    .sourceType(lecture.getSourceType())
+                    .videoUrl(lecture.getVideoUrl())
+                    .transcript(artifact(artifacts, ArtifactType.TRANSCRIPT, lecture::getTranscript))
+                    .summary(artifact(artifacts, ArtifactType.SUMMARY, lecture::getSummary))
+                    .expectedQuestions(artifact(artifacts, ArtifactType.EXPECTED_QUESTIONS, lecture::getExpectedQuestions))
+                    .status(lecture.getStatus())
+                    .embeddingSynced(lecture.getEmbeddingSynced())
+                    .createdAt(lecture.getCreatedAt())
+                    .studyPlan(artifact(artifacts, ArtifactType.STUDY_PLAN, lecture::getStudyPlan))
+                    .taskId(lecture.getTaskId())
+                    .remainingDays(lecture.getRemainingDays())
+                    .build();
+        }
+
+        // 기존 컬럼은 지연 로딩되므로 압축 자료가 없을 때만 읽음
+        private static String artifact(Map<ArtifactType, String> artifacts, ArtifactType type, Supplier<String> legacy) {
+            return artifacts.containsKey(type) ? artifacts.get(type) : legacy.get();
+        }
     }
 }
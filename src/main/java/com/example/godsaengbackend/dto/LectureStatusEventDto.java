@@ -0,0 +1,19 @@
+package com.example.godsaengbackend.dto;
+
+import com.example.godsaengbackend.entity.Lecture;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LectureStatusEventDto {
+    private Long lectureId;
+    private Lecture.LectureStatus status;
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,22 @@
+package com.example.godsaengbackend.dto;
+
+import com.example.godsaengbackend.entity.Lecture;
+
+import java.time.LocalDateTime;
+
+/**
+ * 강의 목록 조회용 프로젝션
+ * 목록 화면에 필요한 컬럼만 읽고 transcript 등 대용량 TEXT 컬럼은 조회하지 않습니다.
+ */
+public interface LectureSummary {
+    Long getId();
+    String getTitle();
+    String getDescription();
+    Lecture.SourceType getSourceType();
+    String getVideoUrl();
+    Lecture.LectureStatus getStatus();
+    Boolean getEmbeddingSynced();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+    Integer getRemainingDays();
+}
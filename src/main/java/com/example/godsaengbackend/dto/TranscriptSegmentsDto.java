@@ -0,0 +1,24 @@
+package com.example.godsaengbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 강의 스크립트 구간 조회 응답
+ * 스크립트를 줄 단위(긴 줄은 약 1000자 단위)로 나눈 구간 중 요청 범위만 담습니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TranscriptSegmentsDto {
+    private Long lectureId;
+    private int from;
+    private Integer total;     // 전체 구간 수 (요청 범위 뒤를 읽지 않으므로 마지막 페이지에서만 채움, 그 외에는 null)
+    private Integer nextFrom;  // 다음 구간 시작 인덱스 (마지막이면 null)
+    private List<String> segments;
+}
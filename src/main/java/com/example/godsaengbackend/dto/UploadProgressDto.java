@@ -0,0 +1,36 @@
+package com.example.godsaengbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadProgressDto {
+    private Long lectureId;
+    private UploadState state;
+    private int attempts;
+    private int maxAttempts;
+    private long sizeBytes;
+    private String taskId;
+    private String lastError;
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime updatedAt;
+
+    public enum UploadState {
+        SPOOLED,      // 로컬 임시 저장 완료, 전송 대기
+        UPLOADING,    // AI 서버로 전송 중
+        RETRY_WAIT,   // 전송 실패 후 재시도 대기
+        ACKNOWLEDGED, // AI 서버가 수신 확인 (task_id 발급)
+        FAILED        // 재시도 한도 초과
+    }
+
+    public boolean isFinished() {
+        return state == UploadState.ACKNOWLEDGED || state == UploadState.FAILED;
+    }
+}
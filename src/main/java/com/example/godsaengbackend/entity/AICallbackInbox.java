@@ -0,0 +1,59 @@
+package com.example.godsaengbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 접수했지만 아직 반영하지 않은 AI 완료 콜백 (인박스)
+ * 202 응답 전에 저장되어 재시작/장애 중에도 유실되지 않으며, 반영하는 트랜잭션에서 함께 삭제됩니다.
+ */
+@Entity
+@Table(name = "ai_callback_inbox",
+        indexes = @Index(name = "idx_ai_callback_inbox_status_next_attempt", columnList = "status, next_attempt_at"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AICallbackInbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "inbox_id")
+    private Long id;
+
+    @Column(name = "lecture_id", nullable = false)
+    private Long lectureId;
+
+    @Column(name = "task_id")
+    private String taskId;
+
+    // 수신한 콜백 본문 (JSON)
+    @Column(columnDefinition = "LONGTEXT", nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private InboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "received_at")
+    private LocalDateTime receivedAt;
+
+    public enum InboxStatus {
+        PENDING, FAILED
+    }
+}
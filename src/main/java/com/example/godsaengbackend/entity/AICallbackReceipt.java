@@ -0,0 +1,39 @@
+package com.example.godsaengbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 처리한 AI 완료 콜백 기록 (멱등성 원장)
+ * (lecture_id, task_id)마다 한 번만 반영되도록 고유 제약으로 중복을 막습니다.
+ */
+@Entity
+@Table(name = "ai_callback_receipts",
+        uniqueConstraints = @UniqueConstraint(name = "uk_ai_callback_receipts_lecture_task",
+                columnNames = {"lecture_id", "task_id"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AICallbackReceipt {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "receipt_id")
+    private Long id;
+
+    @Column(name = "lecture_id", nullable = false)
+    private Long lectureId;
+
+    @Column(name = "task_id", nullable = false)
+    private String taskId;
+
+    @CreationTimestamp
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+}
@@ -0,0 +1,72 @@
+package com.example.godsaengbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 서버로 보낼 작업 요청 (트랜잭셔널 아웃박스)
+ * 강의와 같은 트랜잭션에서 저장되고, 커밋 이후 디스패처가 전송합니다.
+ */
+@Entity
+@Table(name = "ai_outbox",
+        indexes = @Index(name = "idx_ai_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AIOutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(name = "lecture_id", nullable = false)
+    private Long lectureId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private EventType eventType;
+
+    // AI 서버 요청 본문 (JSON)
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    // AI 서버가 중복 요청을 걸러낼 수 있도록 재시도 간에 동일하게 유지
+    @Column(name = "idempotency_key", nullable = false, unique = true, length = 64)
+    private String idempotencyKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // PENDING: 다음 전송 시각, IN_FLIGHT: 점유(lease) 만료 시각
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    public enum EventType {
+        PROCESS_LECTURE
+    }
+
+    public enum OutboxStatus {
+        PENDING, IN_FLIGHT, SENT, FAILED, CANCELLED
+    }
+}
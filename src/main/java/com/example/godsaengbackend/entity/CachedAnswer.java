@@ -0,0 +1,48 @@
+package com.example.godsaengbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 답변 캐시의 영속 저장소 (선택)
+ * (task_id, 정규화한 질문 + 말투의 해시)마다 하나의 답변을 보관합니다.
+ */
+@Entity
+@Table(name = "ai_answer_cache",
+        uniqueConstraints = @UniqueConstraint(name = "uk_ai_answer_cache_task_question",
+                columnNames = {"task_id", "question_hash"}),
+        indexes = @Index(name = "idx_ai_answer_cache_cached_at", columnList = "cached_at"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedAnswer {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "cached_answer_id")
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private String taskId;
+
+    // SHA-256(정규화한 질문 + 말투) 16진수
+    @Column(name = "question_hash", nullable = false, length = 64)
+    private String questionHash;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String question;
+
+    @Column(nullable = false, length = 20)
+    private String tone;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String answer;
+
+    @Column(name = "cached_at", nullable = false)
+    private LocalDateTime cachedAt;
+}
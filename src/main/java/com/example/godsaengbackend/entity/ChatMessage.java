@@ -6,7 +6,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "chat_messages")
+@Table(name = "chat_messages", indexes = {
+        @Index(name = "idx_chat_messages_lecture_id_id", columnList = "lecture_id, id"),
+        @Index(name = "idx_chat_messages_parent_id", columnList = "parent_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -40,6 +43,11 @@ public class ChatMessage {
     @Column(name = "parent_id")
     private Long parentId;  // 답변의 경우 질문 메시지의 ID를 저장
 
+    // 답변 생성 상태 (질문 메시지는 null, 기존 답변은 null이면 완료로 간주)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20)
+    private MessageStatus status;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -48,4 +56,12 @@ public class ChatMessage {
     public enum MessageRole {
         USER, ASSISTANT
     }
+
+    public enum MessageStatus {
+        PENDING, COMPLETED, FAILED
+    }
+
+    public boolean isPending() {
+        return status == MessageStatus.PENDING;
+    }
 } 
\ No newline at end of file
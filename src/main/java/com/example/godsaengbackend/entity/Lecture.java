@@ -32,6 +32,8 @@ public class Lecture {
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    // 대용량 TEXT 컬럼은 상세 조회 시에만 지연 로딩 (바이트코드 향상 필요)
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT")
     private String studyPlan;
 
@@ -42,12 +44,15 @@ public class Lecture {
     @Column(name = "video_url")
     private String videoUrl;
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT")
     private String transcript;
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT")
     private String summary;
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(name = "expected_questions", columnDefinition = "TEXT")
     private String expectedQuestions;
 
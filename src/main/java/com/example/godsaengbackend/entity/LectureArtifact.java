@@ -0,0 +1,63 @@
+package com.example.godsaengbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 처리 결과물(스크립트, 요약, 예상 질문, 학습 계획)을 gzip으로 압축해 보관하는 테이블
+ * lectures 테이블에는 짧은 메타데이터만 남기고 대용량 본문은 여기에 저장합니다.
+ */
+@Entity
+@Table(name = "lecture_artifacts",
+        uniqueConstraints = @UniqueConstraint(name = "uk_lecture_artifacts_lecture_type",
+                columnNames = {"lecture_id", "artifact_type"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LectureArtifact {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "artifact_id")
+    private Long id;
+
+    @Column(name = "lecture_id", nullable = false)
+    private Long lectureId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "artifact_type", nullable = false, length = 30)
+    private ArtifactType type;
+
+    // gzip 압축된 UTF-8 본문 (Accept-Encoding: gzip 요청에는 그대로 전송)
+    @Column(name = "content", columnDefinition = "LONGBLOB", nullable = false)
+    private byte[] content;
+
+    // 압축 전 UTF-8 바이트 수
+    @Column(name = "original_size", nullable = false)
+    private Integer originalSize;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum ArtifactType {
+        TRANSCRIPT, SUMMARY, EXPECTED_QUESTIONS, STUDY_PLAN;
+
+        /**
+         * URL 경로 표기(transcript, expected-questions 등)를 타입으로 변환합니다.
+         */
+        public static ArtifactType fromPath(String path) {
+            try {
+                return valueOf(path.trim().toUpperCase().replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 강의 자료 유형입니다: " + path);
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.godsaengbackend.entity;
+
+import com.example.godsaengbackend.dto.UploadProgressDto.UploadState;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업로드 파일의 AI 서버 전송 작업
+ * 스풀 파일은 접수한 인스턴스의 로컬 디스크에 있으므로 node가 같은 인스턴스만 전송/재개합니다.
+ */
+@Entity
+@Table(name = "lecture_upload_jobs",
+        indexes = @Index(name = "idx_lecture_upload_jobs_node_state", columnList = "node, state, next_attempt_at"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LectureUploadJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "upload_job_id")
+    private Long id;
+
+    @Column(name = "lecture_id", nullable = false, unique = true)
+    private Long lectureId;
+
+    // 스풀 파일을 가진 인스턴스
+    @Column(nullable = false, length = 100)
+    private String node;
+
+    @Column(name = "spool_path", nullable = false, length = 500)
+    private String spoolPath;
+
+    @Column(length = 255)
+    private String filename;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long sizeBytes;
+
+    // 재전송 시에도 같은 값을 보내 AI 서버가 중복 업로드를 무시할 수 있게 함
+    @Column(name = "idempotency_key", nullable = false, unique = true, length = 64)
+    private String idempotencyKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private UploadState state;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // AI 서버가 발급한 task_id (강의에 반영하기 전에 먼저 기록)
+    @Column(name = "task_id")
+    private String taskId;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    // SPOOLED/RETRY_WAIT: 스케줄러 대기열에 들어가는 시각
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
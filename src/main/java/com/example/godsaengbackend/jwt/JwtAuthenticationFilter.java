@@ -4,6 +4,9 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.Authentication;
@@ -12,40 +15,68 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+    private static final String METRIC_NAME = "auth.jwt.filter";
+
     private final JwtTokenProvider jwtTokenProvider;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+    // 요청마다 미터를 조회하지 않도록 결과별 타이머를 미리 등록 (인증 처리 구간만 측정, 이후 체인은 제외)
+    private final Timer authenticatedTimer;
+    private final Timer anonymousTimer;
+    private final Timer invalidTimer;
+    private final Timer errorTimer;
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, MeterRegistry meterRegistry) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.authenticatedTimer = timer(meterRegistry, "AUTHENTICATED");
+        this.anonymousTimer = timer(meterRegistry, "ANONYMOUS");
+        this.invalidTimer = timer(meterRegistry, "INVALID");
+        this.errorTimer = timer(meterRegistry, "ERROR");
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
+        long start = System.nanoTime();
         String token = resolveToken(request);
+        Timer outcome = anonymousTimer;
         
         try {
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                Authentication auth = jwtTokenProvider.getAuthentication(token);
+            // 토큰은 한 번만 파싱하고, 인증 객체와 이메일 모두 같은 클레임에서 얻음
+            Claims claims = token != null ? jwtTokenProvider.parseAccessToken(token) : null;
+            if (claims != null) {
+                Authentication auth = jwtTokenProvider.getAuthentication(claims);
                 SecurityContextHolder.getContext().setAuthentication(auth);
                 
                 // 사용자 이메일을 요청 속성으로 추가 (컨트롤러에서 접근 가능)
-                String email = jwtTokenProvider.getUsername(token);
-                request.setAttribute("email", email);
+                request.setAttribute("email", claims.getSubject());
+                outcome = authenticatedTimer;
+            } else if (token != null) {
+                outcome = invalidTimer;
             }
         } catch (Exception e) {
             logger.error("JWT 인증 처리 중 오류 발생: {}", e.getMessage());
             SecurityContextHolder.clearContext();
+            outcome = errorTimer;
         }
+        outcome.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         
         filterChain.doFilter(request, response);
     }
 
-    private String resolveToken(HttpServletRequest request) {
+    private static Timer timer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder(METRIC_NAME)
+                .description("JWT 인증 필터 처리 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    static String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
             return bearerToken.substring(7);
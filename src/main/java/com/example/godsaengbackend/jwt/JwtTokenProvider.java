@@ -6,6 +6,7 @@ import io.jsonwebtoken.security.SignatureException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import com.example.godsaengbackend.cache.UserDetailsCache;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -21,19 +22,27 @@ public class JwtTokenProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
     private final SecretKey key;
+    private final JwtParser parser;
     private final long accessTokenValidity;
     private final long refreshTokenValidity;
     private final UserDetailsService userDetailsService;
+    private final UserDetailsCache userDetailsCache;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secretKey,
             @Value("${jwt.expiration}") long accessTokenValidity,
             @Value("${jwt.refresh-expiration}") long refreshTokenValidity,
-            @Lazy UserDetailsService userDetailsService) {
+            @Lazy UserDetailsService userDetailsService,
+            UserDetailsCache userDetailsCache) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        // 파서는 불변이므로 한 번만 생성해 재사용
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
         this.accessTokenValidity = accessTokenValidity;
         this.refreshTokenValidity = refreshTokenValidity;
         this.userDetailsService = userDetailsService;
+        this.userDetailsCache = userDetailsCache;
     }
 
     public String createAccessToken(String username) {
@@ -59,60 +68,62 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public Authentication getAuthentication(String token) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(getUsername(token));
+    /**
+     * 검증된 클레임으로 인증 객체를 만듭니다. 사용자 정보는 캐시에서 조회합니다.
+     */
+    public Authentication getAuthentication(Claims claims) {
+        UserDetails userDetails = userDetailsCache.get(claims.getSubject(), userDetailsService::loadUserByUsername);
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
     public String getUsername(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
+        return parser.parseClaimsJws(token)
                 .getBody()
                 .getSubject();
     }
 
     public boolean validateToken(String token) {
+        return parseAccessToken(token) != null;
+    }
+
+    /**
+     * 토큰을 한 번만 파싱해 서명, 만료, 타입(ACCESS)을 검증합니다.
+     * 유효하지 않으면 null을 반환합니다.
+     */
+    public Claims parseAccessToken(String token) {
         try {
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-                    
+            Claims claims = parser.parseClaimsJws(token).getBody();
+
             // 토큰 타입 검증 (ACCESS 토큰만 API 접근 허용)
-            String tokenType = claims.getBody().get("type", String.class);
+            String tokenType = claims.get("type", String.class);
             if (!"ACCESS".equals(tokenType)) {
                 logger.warn("Invalid token type: {}", tokenType);
-                return false;
+                return null;
             }
-            
-            return !claims.getBody().getExpiration().before(new Date());
+
+            return claims.getExpiration().before(new Date()) ? null : claims;
         } catch (ExpiredJwtException e) {
             logger.warn("만료된 JWT 토큰: {}", e.getMessage());
-            return false;
+            return null;
         } catch (UnsupportedJwtException e) {
             logger.warn("지원되지 않는 JWT 토큰: {}", e.getMessage());
-            return false;
+            return null;
         } catch (MalformedJwtException e) {
             logger.warn("잘못된 형식의 JWT 토큰: {}", e.getMessage());
-            return false;
+            return null;
         } catch (SignatureException e) {
             logger.warn("유효하지 않은 JWT 서명: {}", e.getMessage());
-            return false;
+            return null;
         } catch (IllegalArgumentException e) {
             logger.warn("JWT 토큰 처리 중 오류: {}", e.getMessage());
-            return false;
+            return null;
         }
     }
 
     public String refreshToken(String refreshToken) {
         try {
             // Refresh 토큰 검증
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(refreshToken);
+            Jws<Claims> claims = parser.parseClaimsJws(refreshToken);
                     
             // Refresh 토큰 타입 검증
             String tokenType = claims.getBody().get("type", String.class);
@@ -125,8 +136,7 @@ public class JwtTokenProvider {
                 throw new JwtException("Refresh token has expired");
             }
             
-            String username = getUsername(refreshToken);
-            return createAccessToken(username);
+            return createAccessToken(claims.getBody().getSubject());
         } catch (Exception e) {
             logger.error("Refresh token 처리 중 오류: {}", e.getMessage());
             throw new JwtException("Invalid refresh token: " + e.getMessage());
@@ -0,0 +1,93 @@
+package com.example.godsaengbackend.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인스턴스 메모리에 두는 토큰 버킷 저장소 (단일 인스턴스용)
+ * 버킷 하나는 "다음 토큰이 채워질 이론상 시각"(GCRA의 TAT) 하나로 표현되며,
+ * AtomicLong CAS로 갱신하므로 잠금 없이 동작하고 요청마다 객체를 만들지 않습니다.
+ * 한동안 쓰이지 않은 버킷은 어차피 가득 찬 상태이므로 idle-ttl 이후 메모리에서 제거합니다 (가장 긴 한도 기간 이상으로 설정).
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimitStore implements RateLimitStore {
+
+    private final Cache<String, AtomicLong> buckets;
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder limited = new LongAdder();
+    private final LongAdder refunded = new LongAdder();
+
+    public LocalRateLimitStore(
+            @Value("${rate-limit.local.max-size:100000}") long maxSize,
+            @Value("${rate-limit.local.idle-ttl:3600000}") long idleTtlMillis) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofMillis(idleTtlMillis))
+                .build();
+    }
+
+    @Override
+    public Decision tryConsume(String key, Bandwidth bandwidth) {
+        long interval = bandwidth.emissionIntervalNanos();
+        long period = interval * bandwidth.capacity();
+        AtomicLong bucket = buckets.get(key, k -> new AtomicLong(System.nanoTime()));
+
+        while (true) {
+            long now = System.nanoTime();
+            long tat = bucket.get();
+            long next = (tat - now > 0 ? tat : now) + interval;
+            long ahead = next - now;
+            if (ahead > period) {
+                limited.increment();
+                return new Decision(false, 0, Duration.ofNanos(ahead - period));
+            }
+            if (bucket.compareAndSet(tat, next)) {
+                allowed.increment();
+                return new Decision(true, (period - ahead) / interval, Duration.ZERO);
+            }
+        }
+    }
+
+    @Override
+    public void refund(String key, Bandwidth bandwidth) {
+        AtomicLong bucket = buckets.getIfPresent(key);
+        if (bucket == null) {
+            return;
+        }
+        long interval = bandwidth.emissionIntervalNanos();
+        while (true) {
+            long now = System.nanoTime();
+            long tat = bucket.get();
+            if (tat - now <= 0) {
+                return;
+            }
+            // TAT를 한 간격 앞당기되 현재 시각(가득 찬 상태)보다 앞으로는 당기지 않음
+            long previous = tat - interval - now > 0 ? tat - interval : now;
+            if (bucket.compareAndSet(tat, previous)) {
+                refunded.increment();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("store", "local");
+        stats.put("buckets", buckets.estimatedSize());
+        stats.put("allowed", allowed.sum());
+        stats.put("limited", limited.sum());
+        stats.put("refunded", refunded.sum());
+        return stats;
+    }
+}
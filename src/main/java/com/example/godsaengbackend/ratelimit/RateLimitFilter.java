@@ -0,0 +1,157 @@
+package com.example.godsaengbackend.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 질문 / 강의 생성 요청의 사용자별 처리율 한도
+ * JWT 인증 필터 바로 뒤에서 실행되어, 업로드 본문(multipart)을 읽기 전에 한도를 넘은 요청을 429로 돌려보냅니다.
+ * 질문은 강의별 버킷과 사용자 전체 버킷을 모두 통과해야 하며, 사용자 전체 버킷에서 거절되면 강의별 버킷의 토큰은 되돌립니다.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+    private static final String METRIC_NAME = "rate.limit.requests";
+
+    private static final PathPattern CHAT_PATTERN =
+            PathPatternParser.defaultInstance.parse("/api/chat/lectures/{lectureId}/questions/**");
+    private static final List<PathPattern> LECTURE_CREATE_PATTERNS = List.of(
+            PathPatternParser.defaultInstance.parse("/api/lectures"),
+            PathPatternParser.defaultInstance.parse("/api/lectures/youtube"),
+            PathPatternParser.defaultInstance.parse("/api/lectures/upload"));
+
+    private final RateLimitStore store;
+    private final RateLimitPolicy policy;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    // 요청마다 미터를 조회하지 않도록 작업별 결과 카운터를 미리 등록
+    private final Map<RateLimitPolicy.Action, Counter> allowedCounters = new EnumMap<>(RateLimitPolicy.Action.class);
+    private final Map<RateLimitPolicy.Action, Counter> limitedCounters = new EnumMap<>(RateLimitPolicy.Action.class);
+
+    public RateLimitFilter(RateLimitStore store, RateLimitPolicy policy, ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${rate-limit.enabled:true}") boolean enabled) {
+        this.store = store;
+        this.policy = policy;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        for (RateLimitPolicy.Action action : RateLimitPolicy.Action.values()) {
+            allowedCounters.put(action, counter(meterRegistry, action, "ALLOWED"));
+            limitedCounters.put(action, counter(meterRegistry, action, "LIMITED"));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !HttpMethod.POST.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Object email = request.getAttribute("email");
+        if (email == null) {
+            // 인증되지 않은 요청은 이후 인가 단계에서 거절됨
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        RateLimitStore.Decision rejected = null;
+
+        PathPattern.PathMatchInfo chat = CHAT_PATTERN.matchAndExtract(path);
+        if (chat != null) {
+            String lectureKey = email + ":" + chat.getUriVariables().get("lectureId");
+            rejected = consume(RateLimitPolicy.Action.CHAT_LECTURE, lectureKey, email.toString());
+            if (rejected == null) {
+                rejected = consume(RateLimitPolicy.Action.CHAT, email.toString(), email.toString());
+                if (rejected != null) {
+                    // 처리하지 않는 질문이 강의별 한도를 쓰지 않도록
+                    store.refund(RateLimitPolicy.Action.CHAT_LECTURE.name() + ":" + lectureKey,
+                            policy.bandwidth(RateLimitPolicy.Action.CHAT_LECTURE, email.toString()));
+                }
+            }
+        } else if (LECTURE_CREATE_PATTERNS.stream().anyMatch(pattern -> pattern.matches(path))) {
+            rejected = consume(RateLimitPolicy.Action.LECTURE_CREATE, email.toString(), email.toString());
+        }
+
+        if (rejected != null) {
+            writeTooManyRequests(request, response, rejected);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("store", store.stats());
+        stats.put("policy", policy.stats());
+        Map<String, Object> limited = new LinkedHashMap<>();
+        limitedCounters.forEach((action, counter) -> limited.put(action.name(), (long) counter.count()));
+        stats.put("limitedByAction", limited);
+        return stats;
+    }
+
+    /**
+     * 거절되면 Decision을, 허용되면 null을 돌려줍니다.
+     */
+    private RateLimitStore.Decision consume(RateLimitPolicy.Action action, String key, String email) {
+        RateLimitStore.Decision decision = store.tryConsume(
+                action.name() + ":" + key, policy.bandwidth(action, email));
+        if (decision.allowed()) {
+            allowedCounters.get(action).increment();
+            return null;
+        }
+        limitedCounters.get(action).increment();
+        logger.debug("처리율 한도 초과: action={}, key={}, retryAfter={}", action, key, decision.retryAfter());
+        return decision;
+    }
+
+    private void writeTooManyRequests(HttpServletRequest request, HttpServletResponse response,
+                                      RateLimitStore.Decision decision) throws IOException {
+        Map<String, String> body = new LinkedHashMap<>();
+        body.put("error", "Too many requests");
+        body.put("message", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        body.put("path", request.getRequestURI());
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), body);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, RateLimitPolicy.Action action, String outcome) {
+        return Counter.builder(METRIC_NAME)
+                .description("처리율 한도 적용 요청 수")
+                .tag("action", action.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
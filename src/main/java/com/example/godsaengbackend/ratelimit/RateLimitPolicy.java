@@ -0,0 +1,72 @@
+package com.example.godsaengbackend.ratelimit;
+
+import com.example.godsaengbackend.cache.UserTierCache;
+import com.example.godsaengbackend.cache.UserTierCache.Tier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 사용자 등급(UserTierCache)과 작업 종류별 처리율 한도
+ */
+@Component
+public class RateLimitPolicy {
+
+    public enum Action {
+        // 사용자별 질문 수 (모든 강의 합산)
+        CHAT,
+        // 사용자 + 강의별 질문 수
+        CHAT_LECTURE,
+        // 사용자별 강의 생성/업로드 수
+        LECTURE_CREATE
+    }
+
+    private final UserTierCache userTierCache;
+    private final Map<Action, Map<Tier, RateLimitStore.Bandwidth>> bandwidths = new EnumMap<>(Action.class);
+
+    public RateLimitPolicy(
+            UserTierCache userTierCache,
+            @Value("${rate-limit.chat.basic:30/1m}") String chatBasic,
+            @Value("${rate-limit.chat.premium:120/1m}") String chatPremium,
+            @Value("${rate-limit.chat.god:600/1m}") String chatGod,
+            @Value("${rate-limit.chat-lecture.basic:10/1m}") String chatLectureBasic,
+            @Value("${rate-limit.chat-lecture.premium:40/1m}") String chatLecturePremium,
+            @Value("${rate-limit.chat-lecture.god:200/1m}") String chatLectureGod,
+            @Value("${rate-limit.lecture-create.basic:10/1h}") String lectureCreateBasic,
+            @Value("${rate-limit.lecture-create.premium:50/1h}") String lectureCreatePremium,
+            @Value("${rate-limit.lecture-create.god:500/1h}") String lectureCreateGod) {
+        this.userTierCache = userTierCache;
+        register(Action.CHAT, chatBasic, chatPremium, chatGod);
+        register(Action.CHAT_LECTURE, chatLectureBasic, chatLecturePremium, chatLectureGod);
+        register(Action.LECTURE_CREATE, lectureCreateBasic, lectureCreatePremium, lectureCreateGod);
+    }
+
+    public RateLimitStore.Bandwidth bandwidth(Action action, String email) {
+        return bandwidths.get(action).get(userTierCache.tierOf(email));
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("tiers", userTierCache.stats());
+        Map<String, Object> limits = new LinkedHashMap<>();
+        bandwidths.forEach((action, byTier) -> {
+            Map<String, String> perTier = new LinkedHashMap<>();
+            byTier.forEach((tier, bandwidth) ->
+                    perTier.put(tier.name(), bandwidth.capacity() + "/" + bandwidth.period()));
+            limits.put(action.name(), perTier);
+        });
+        stats.put("limits", limits);
+        return stats;
+    }
+
+    private void register(Action action, String basic, String premium, String god) {
+        Map<Tier, RateLimitStore.Bandwidth> byTier = new EnumMap<>(Tier.class);
+        byTier.put(Tier.BASIC, RateLimitStore.Bandwidth.parse(basic));
+        byTier.put(Tier.PREMIUM, RateLimitStore.Bandwidth.parse(premium));
+        byTier.put(Tier.GOD, RateLimitStore.Bandwidth.parse(god));
+        bandwidths.put(action, byTier);
+    }
+}
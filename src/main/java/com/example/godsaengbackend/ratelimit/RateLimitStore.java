@@ -0,0 +1,65 @@
+package com.example.godsaengbackend.ratelimit;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 키별 토큰 버킷 저장소
+ * 기본 구현은 인스턴스 메모리에 버킷을 두는 LocalRateLimitStore이며,
+ * 여러 인스턴스가 한도를 공유해야 하면 공유 저장소(Redis 등) 구현을 빈으로 등록하고 rate-limit.store를 바꿉니다.
+ */
+public interface RateLimitStore {
+
+    /**
+     * key 버킷에서 토큰 하나를 꺼냅니다. 토큰이 없으면 버킷을 바꾸지 않고 거절 결과를 돌려줍니다.
+     */
+    Decision tryConsume(String key, Bandwidth bandwidth);
+
+    /**
+     * tryConsume으로 꺼낸 토큰 하나를 되돌립니다 (함께 검사한 다른 버킷에서 거절되어 요청을 처리하지 않은 경우).
+     * 버킷이 이미 가득 차 있으면 아무것도 하지 않습니다.
+     */
+    void refund(String key, Bandwidth bandwidth);
+
+    Map<String, Object> stats();
+
+    /**
+     * period 동안 capacity건 (빈 버킷은 period / capacity마다 토큰 하나씩 채워지고, 최대 capacity건까지 몰아서 허용)
+     */
+    record Bandwidth(long capacity, Duration period) {
+
+        public Bandwidth {
+            if (capacity <= 0 || period.isNegative() || period.isZero()) {
+                throw new IllegalArgumentException("잘못된 처리율 한도: " + capacity + "/" + period);
+            }
+        }
+
+        /**
+         * "30/1m", "10/1h" 형식 (기간은 Spring Boot의 Duration 표기)
+         */
+        public static Bandwidth parse(String value) {
+            int slash = value.indexOf('/');
+            if (slash < 0) {
+                throw new IllegalArgumentException("처리율 한도는 '횟수/기간' 형식이어야 합니다: " + value);
+            }
+            return new Bandwidth(Long.parseLong(value.substring(0, slash).trim()),
+                    DurationStyle.detectAndParse(value.substring(slash + 1).trim()));
+        }
+
+        long emissionIntervalNanos() {
+            return Math.max(1, period.toNanos() / capacity);
+        }
+    }
+
+    record Decision(boolean allowed, long remaining, Duration retryAfter) {
+
+        /**
+         * Retry-After 헤더 값 (초, 최소 1)
+         */
+        public long retryAfterSeconds() {
+            return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        }
+    }
+}
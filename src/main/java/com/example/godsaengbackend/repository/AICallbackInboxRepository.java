@@ -0,0 +1,37 @@
+package com.example.godsaengbackend.repository;
+
+import com.example.godsaengbackend.entity.AICallbackInbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AICallbackInboxRepository extends JpaRepository<AICallbackInbox, Long> {
+
+    // 반영할 차례가 된 콜백 ID (잠금 없이 읽기만 함, payload 제외)
+    @Query("SELECT i.id FROM AICallbackInbox i WHERE i.status = :status AND i.nextAttemptAt <= :now ORDER BY i.id ASC")
+    List<Long> findDueIds(@Param("status") AICallbackInbox.InboxStatus status,
+                          @Param("now") LocalDateTime now,
+                          Pageable pageable);
+
+    // 고른 콜백만 잠금 (다른 인스턴스가 반영 중인 행은 건너뜀)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT i FROM AICallbackInbox i WHERE i.id IN :ids AND i.status = :status AND i.nextAttemptAt <= :now " +
+           "ORDER BY i.id ASC")
+    List<AICallbackInbox> findDueByIdsForUpdate(@Param("ids") Collection<Long> ids,
+                                                @Param("status") AICallbackInbox.InboxStatus status,
+                                                @Param("now") LocalDateTime now);
+
+    long countByStatus(AICallbackInbox.InboxStatus status);
+}
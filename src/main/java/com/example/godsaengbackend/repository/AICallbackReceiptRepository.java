@@ -0,0 +1,13 @@
+package com.example.godsaengbackend.repository;
+
+import com.example.godsaengbackend.entity.AICallbackReceipt;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AICallbackReceiptRepository extends JpaRepository<AICallbackReceipt, Long> {
+    List<AICallbackReceipt> findByLectureIdIn(Collection<Long> lectureIds);
+}
@@ -0,0 +1,48 @@
+package com.example.godsaengbackend.repository;
+
+import com.example.godsaengbackend.dto.AIInFlightJob;
+import com.example.godsaengbackend.dto.AIJobCandidate;
+import com.example.godsaengbackend.entity.Lecture;
+import com.example.godsaengbackend.entity.AIOutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AIOutboxRepository extends JpaRepository<AIOutboxEvent, Long> {
+
+    // 스케줄러 대기열 구성용 (잠금 없이 읽기만 함, payload 제외. 삭제된 강의의 요청도 포함해 점유 시 취소되도록 함)
+    @Query("SELECT e.id AS sourceId, e.lectureId AS lectureId, e.createdAt AS createdAt, " +
+           "l.remainingDays AS remainingDays, u.email AS email " +
+           "FROM AIOutboxEvent e LEFT JOIN Lecture l ON l.id = e.lectureId LEFT JOIN l.user u " +
+           "WHERE e.status IN :statuses AND e.nextAttemptAt <= :now ORDER BY e.id ASC")
+    List<AIJobCandidate> findDueCandidates(@Param("statuses") Collection<AIOutboxEvent.OutboxStatus> statuses,
+                                           @Param("now") LocalDateTime now,
+                                           Pageable pageable);
+
+    // 스케줄러가 고른 이벤트만 잠금 (그사이 다른 노드가 가져갔거나 상태가 바뀐 행은 제외)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM AIOutboxEvent e WHERE e.id IN :ids AND e.status IN :statuses AND e.nextAttemptAt <= :now")
+    List<AIOutboxEvent> findDueByIdsForUpdate(@Param("ids") Collection<Long> ids,
+                                              @Param("statuses") Collection<AIOutboxEvent.OutboxStatus> statuses,
+                                              @Param("now") LocalDateTime now);
+
+    // 재시작 시 스케줄러의 처리 중 슬롯 복원용: since 이후 전송했고 강의가 아직 처리 중인 요청 (강의별 마지막 전송)
+    @Query("SELECT e.lectureId AS lectureId, MAX(e.sentAt) AS sentAt " +
+           "FROM AIOutboxEvent e JOIN Lecture l ON l.id = e.lectureId " +
+           "WHERE e.status = :status AND e.sentAt >= :since AND l.status = :lectureStatus GROUP BY e.lectureId")
+    List<AIInFlightJob> findSentSince(@Param("status") AIOutboxEvent.OutboxStatus status,
+                                      @Param("lectureStatus") Lecture.LectureStatus lectureStatus,
+                                      @Param("since") LocalDateTime since);
+}
@@ -0,0 +1,24 @@
+package com.example.godsaengbackend.repository;
+
+import com.example.godsaengbackend.entity.CachedAnswer;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface CachedAnswerRepository extends JpaRepository<CachedAnswer, Long> {
+    Optional<CachedAnswer> findByTaskIdAndQuestionHash(String taskId, String questionHash);
+
+    @Modifying
+    @Query("DELETE FROM CachedAnswer a WHERE a.taskId = :taskId")
+    int deleteAllByTaskId(@Param("taskId") String taskId);
+
+    @Modifying
+    @Query("DELETE FROM CachedAnswer a WHERE a.cachedAt < :threshold")
+    int deleteExpired(@Param("threshold") LocalDateTime threshold);
+}
@@ -1,7 +1,9 @@
 package com.example.godsaengbackend.repository;
 
+import com.example.godsaengbackend.dto.ChatHistoryRow;
 import com.example.godsaengbackend.entity.ChatMessage;
 import com.example.godsaengbackend.entity.Lecture;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -16,6 +18,8 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     
     // 강의별 모든 메시지 조회 (ID 기준)
     List<ChatMessage> findByLectureIdOrderByIdAsc(Long lectureId);
+
+    boolean existsByLectureId(Long lectureId);
     
     // 질문-답변 쌍으로 조회 (USER 역할 메시지와 그에 대응하는 ASSISTANT 메시지)
     @Query("SELECT m FROM ChatMessage m WHERE m.lecture.id = :lectureId AND " +
@@ -23,6 +27,18 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
            "m.parentId IS NOT NULL) ORDER BY m.id ASC")
     List<ChatMessage> findQuestionAnswerPairsByLectureId(@Param("lectureId") Long lectureId);
     
+    // 질문-답변 쌍 키셋 페이지 조회 (cursor보다 작은 질문 ID를 최신순으로, 답변은 parentId로 조인)
+    @Query("SELECT new com.example.godsaengbackend.dto.ChatHistoryRow(" +
+           "q.id, q.content, q.createdAt, a.id, a.content, a.status) " +
+           "FROM ChatMessage q LEFT JOIN ChatMessage a ON a.parentId = q.id AND " +
+           "a.role = com.example.godsaengbackend.entity.ChatMessage.MessageRole.ASSISTANT " +
+           "WHERE q.lecture.id = :lectureId AND " +
+           "q.role = com.example.godsaengbackend.entity.ChatMessage.MessageRole.USER AND " +
+           "q.id < :cursor ORDER BY q.id DESC")
+    List<ChatHistoryRow> findHistoryPage(@Param("lectureId") Long lectureId,
+                                         @Param("cursor") Long cursor,
+                                         Pageable pageable);
+
     // 특정 질문에 대한 답변 조회
     ChatMessage findByParentId(Long parentId);
 
@@ -0,0 +1,21 @@
+package com.example.godsaengbackend.repository;
+
+import com.example.godsaengbackend.entity.LectureArtifact;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LectureArtifactRepository extends JpaRepository<LectureArtifact, Long> {
+    List<LectureArtifact> findByLectureId(Long lectureId);
+    Optional<LectureArtifact> findByLectureIdAndType(Long lectureId, LectureArtifact.ArtifactType type);
+
+    @Modifying
+    @Query("DELETE FROM LectureArtifact a WHERE a.lectureId = :lectureId")
+    int deleteAllByLectureId(@Param("lectureId") Long lectureId);
+}
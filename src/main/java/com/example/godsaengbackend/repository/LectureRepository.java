@@ -1,16 +1,43 @@
 package com.example.godsaengbackend.repository;
 
+import com.example.godsaengbackend.dto.LectureSummary;
 import com.example.godsaengbackend.entity.Lecture;
 import com.example.godsaengbackend.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LectureRepository extends JpaRepository<Lecture, Long> {
     Page<Lecture> findByUser(User user, Pageable pageable);
     Optional<Lecture> findByIdAndUser(Long id, User user);
+    boolean existsByIdAndUserEmail(Long id, String email);
+
+    // 목록 조회용 (대용량 TEXT 컬럼 제외, 사용자 조회 없이 이메일로 필터)
+    @Query(value = "SELECT l.id AS id, l.title AS title, l.description AS description, " +
+                   "l.sourceType AS sourceType, l.videoUrl AS videoUrl, l.status AS status, " +
+                   "l.embeddingSynced AS embeddingSynced, l.createdAt AS createdAt, " +
+                   "l.updatedAt AS updatedAt, l.remainingDays AS remainingDays " +
+                   "FROM Lecture l WHERE l.user.email = :email",
+           countQuery = "SELECT COUNT(l) FROM Lecture l WHERE l.user.email = :email")
+    Page<LectureSummary> findSummariesByUserEmail(@Param("email") String email, Pageable pageable);
+
+    // 소유권 확인과 제목 조회를 한 번에 (대용량 TEXT 컬럼은 읽지 않음)
+    @Query("SELECT l.title FROM Lecture l WHERE l.id = :id AND l.user.email = :email")
+    Optional<String> findTitleByIdAndUserEmail(@Param("id") Long id, @Param("email") String email);
+
+    // AI 작업 스케줄러: 아직 처리 중인 강의만 (완료/실패/삭제된 강의는 실행 슬롯 반납)
+    @Query("SELECT l.id FROM Lecture l WHERE l.id IN :ids AND l.status = :status")
+    List<Long> findIdsByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") Lecture.LectureStatus status);
+
+    // 아웃박스 점유 시 강의 존재 여부와 입력 방식만 확인 (대용량 TEXT 컬럼은 읽지 않음)
+    @Query("SELECT l.sourceType FROM Lecture l WHERE l.id = :id")
+    Optional<Lecture.SourceType> findSourceTypeById(@Param("id") Long id);
 }
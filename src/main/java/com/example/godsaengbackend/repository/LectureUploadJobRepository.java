@@ -0,0 +1,66 @@
+package com.example.godsaengbackend.repository;
+
+import com.example.godsaengbackend.dto.AIInFlightJob;
+import com.example.godsaengbackend.dto.AIJobCandidate;
+import com.example.godsaengbackend.dto.UploadProgressDto.UploadState;
+import com.example.godsaengbackend.entity.Lecture;
+import com.example.godsaengbackend.entity.LectureUploadJob;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LectureUploadJobRepository extends JpaRepository<LectureUploadJob, Long> {
+
+    Optional<LectureUploadJob> findByLectureId(Long lectureId);
+
+    // 스케줄러 대기열 구성용: 이 인스턴스의 스풀 파일 중 전송할 차례가 된 작업 (잠금 없이 읽기만 함)
+    @Query("SELECT j.id AS sourceId, j.lectureId AS lectureId, j.createdAt AS createdAt, " +
+           "l.remainingDays AS remainingDays, u.email AS email " +
+           "FROM LectureUploadJob j LEFT JOIN Lecture l ON l.id = j.lectureId LEFT JOIN l.user u " +
+           "WHERE j.node = :node AND j.state IN :states AND j.nextAttemptAt <= :now ORDER BY j.id ASC")
+    List<AIJobCandidate> findDueCandidates(@Param("node") String node,
+                                           @Param("states") Collection<UploadState> states,
+                                           @Param("now") LocalDateTime now,
+                                           Pageable pageable);
+
+    // 스케줄러가 고른 작업만 잠금 (그사이 상태가 바뀐 행은 제외)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT j FROM LectureUploadJob j WHERE j.id IN :ids AND j.node = :node AND j.state IN :states " +
+           "AND j.nextAttemptAt <= :now")
+    List<LectureUploadJob> findDueByIdsForUpdate(@Param("ids") Collection<Long> ids,
+                                                 @Param("node") String node,
+                                                 @Param("states") Collection<UploadState> states,
+                                                 @Param("now") LocalDateTime now);
+
+    // 재시작 시 스케줄러의 처리 중 슬롯 복원용: since 이후 이 인스턴스가 전송을 마쳤고 강의가 아직 처리 중인 업로드
+    @Query("SELECT j.lectureId AS lectureId, j.updatedAt AS sentAt " +
+           "FROM LectureUploadJob j JOIN Lecture l ON l.id = j.lectureId " +
+           "WHERE j.node = :node AND j.state = :state AND j.updatedAt >= :since AND l.status = :lectureStatus")
+    List<AIInFlightJob> findAcknowledgedSince(@Param("node") String node,
+                                              @Param("state") UploadState state,
+                                              @Param("lectureStatus") Lecture.LectureStatus lectureStatus,
+                                              @Param("since") LocalDateTime since);
+
+    // 이 인스턴스가 접수했지만 끝나지 않은 전송 (재시작 후 재개 대상)
+    List<LectureUploadJob> findByNodeAndStateIn(String node, Collection<UploadState> states);
+
+    // 끝난 지 오래된 전송 기록 정리 (이후 진행 상태는 강의 상태로 판단)
+    @Modifying
+    @Query("DELETE FROM LectureUploadJob j WHERE j.state IN :states AND j.updatedAt < :threshold")
+    int deleteFinishedBefore(@Param("states") Collection<UploadState> states,
+                             @Param("threshold") LocalDateTime threshold);
+}
@@ -0,0 +1,18 @@
+package com.example.godsaengbackend.repository;
+
+import com.example.godsaengbackend.entity.Subscription;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SubscriptionRepository extends JpaRepository<Subscription, Long> {
+    // 처리율 한도 등급 판정용: 현재 유효한 구독의 요금제만 조회
+    @Query("SELECT s.planType FROM Subscription s WHERE s.user.email = :email AND s.isActive = true " +
+           "AND s.startDate <= :now AND s.endDate > :now")
+    List<String> findActivePlanTypesByEmail(@Param("email") String email, @Param("now") LocalDateTime now);
+}
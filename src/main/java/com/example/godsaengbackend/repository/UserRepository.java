@@ -2,6 +2,8 @@ package com.example.godsaengbackend.repository;
 
 import com.example.godsaengbackend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,4 +12,7 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.isGodMode FROM User u WHERE u.email = :email")
+    Optional<Boolean> findGodModeByEmail(@Param("email") String email);
 }
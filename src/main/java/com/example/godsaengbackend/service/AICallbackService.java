@@ -0,0 +1,341 @@
+package com.example.godsaengbackend.service;
+
+import com.example.godsaengbackend.dto.AICallbackDTO;
+import com.example.godsaengbackend.entity.AICallbackInbox;
+import com.example.godsaengbackend.entity.AICallbackInbox.InboxStatus;
+import com.example.godsaengbackend.entity.AICallbackReceipt;
+import com.example.godsaengbackend.repository.AICallbackInboxRepository;
+import com.example.godsaengbackend.repository.AICallbackReceiptRepository;
+import com.example.godsaengbackend.repository.LectureRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AI 완료 콜백 수신 처리
+ * 콜백은 인박스 테이블에 저장한 뒤 응답하며, 디스패처가 인박스를 배치 단위로 비우면서 한 트랜잭션에 반영합니다.
+ * 인박스 행은 반영하는 트랜잭션에서 함께 삭제되므로 202로 응답한 콜백은 재시작/장애 중에도 유실되지 않습니다.
+ * (lecture_id, task_id) 기준으로 한 번만 반영하고, AI 서버의 재시도는 최대한 싸게 걸러냅니다.
+ * 1. 최근 처리한 키는 메모리에서 바로 거절 (인박스에도 넣지 않음)
+ * 2. 배치 반영 전 원장 테이블을 한 번에 조회해 이미 처리한 콜백 제외
+ * 3. 원장 기록과 강의 갱신은 같은 트랜잭션 (다른 인스턴스와의 동시 중복은 고유 제약으로 거절)
+ * 반영에 실패한 콜백은 백오프 후 다시 반영하고, max-attempts를 넘기거나 강의가 없으면 FAILED로 남깁니다.
+ * 인박스에 저장하지 못하면 거절하고, 컨트롤러가 429/Retry-After로 AI 서버에 재시도를 요청합니다.
+ */
+@Service
+public class AICallbackService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AICallbackService.class);
+
+    public enum Outcome {
+        ACCEPTED, DUPLICATE, REJECTED
+    }
+
+    private final LectureService lectureService;
+    private final AICallbackInboxRepository inboxRepository;
+    private final AICallbackReceiptRepository receiptRepository;
+    private final LectureRepository lectureRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<String, Boolean> recentlyProcessed;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder duplicatesInMemory = new LongAdder();
+    private final LongAdder duplicatesInLedger = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchFallbacks = new LongAdder();
+
+    public AICallbackService(
+            LectureService lectureService,
+            AICallbackInboxRepository inboxRepository,
+            AICallbackReceiptRepository receiptRepository,
+            LectureRepository lectureRepository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${ai.callback.recent-keys.max-size:10000}") long recentKeysMaxSize,
+            @Value("${ai.callback.recent-keys.ttl:3600000}") long recentKeysTtl,
+            @Value("${ai.callback.batch-size:50}") int batchSize,
+            @Value("${ai.callback.max-attempts:10}") int maxAttempts,
+            @Value("${ai.callback.initial-backoff:1000}") long initialBackoff,
+            @Value("${ai.callback.max-backoff:60000}") long maxBackoff) {
+        this.lectureService = lectureService;
+        this.inboxRepository = inboxRepository;
+        this.receiptRepository = receiptRepository;
+        this.lectureRepository = lectureRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.recentlyProcessed = Caffeine.newBuilder()
+                .maximumSize(recentKeysMaxSize)
+                .expireAfterWrite(Duration.ofMillis(recentKeysTtl))
+                .build();
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofMillis(initialBackoff);
+        this.maxBackoff = Duration.ofMillis(maxBackoff);
+    }
+
+    /**
+     * 콜백을 인박스에 저장합니다. 이미 처리한 콜백이면 DUPLICATE, 저장하지 못하면 REJECTED를 반환합니다.
+     */
+    public Outcome accept(AICallbackDTO callbackData) {
+        long lectureId = Long.parseLong(callbackData.getLecture_id()); // 잘못된 lecture_id는 저장하기 전에 거절
+
+        String key = key(callbackData);
+        if (key != null && recentlyProcessed.getIfPresent(key) != null) {
+            duplicatesInMemory.increment();
+            logger.debug("중복 AI 콜백 무시(메모리): lecture_id={}, task_id={}",
+                    callbackData.getLecture_id(), callbackData.getTask_id());
+            return Outcome.DUPLICATE;
+        }
+
+        try {
+            inboxRepository.save(AICallbackInbox.builder()
+                    .lectureId(lectureId)
+                    .taskId(callbackData.getTask_id())
+                    .payload(objectMapper.writeValueAsString(callbackData))
+                    .status(InboxStatus.PENDING)
+                    .attempts(0)
+                    .nextAttemptAt(LocalDateTime.now())
+                    .build());
+        } catch (DataAccessException | JsonProcessingException e) {
+            rejected.increment();
+            logger.warn("AI 콜백 인박스 저장 실패로 거절: lecture_id={}, error={}",
+                    callbackData.getLecture_id(), e.getMessage());
+            return Outcome.REJECTED;
+        }
+        accepted.increment();
+        return Outcome.ACCEPTED;
+    }
+
+    /**
+     * 반영할 차례가 된 인박스 콜백을 배치 단위로 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${ai.callback.drain-interval:200}")
+    public void drain() {
+        try {
+            List<Long> ids;
+            int handled;
+            do {
+                ids = inboxRepository.findDueIds(InboxStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize));
+                handled = ids.isEmpty() ? 0 : applyBatch(ids);
+                // 다른 인스턴스가 잠근 행은 건너뛰므로, 한 배치를 모두 처리한 경우에만 이어서 조회
+            } while (ids.size() == batchSize && handled == ids.size());
+        } catch (Exception e) {
+            // 인박스에 남아 있으므로 다음 주기에 다시 반영
+            logger.error("AI 콜백 인박스 처리 중 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    // 이번에 처리(반영/중복 제거/재시도 예약)한 콜백 수를 반환
+    private int applyBatch(List<Long> ids) {
+        try {
+            // 배치 전체를 한 트랜잭션으로 반영하고 인박스에서 삭제 (강의 UPDATE는 JDBC 배치로 묶여 전송됨)
+            int[] locked = new int[1];
+            List<AICallbackDTO> appliedCallbacks = transactionTemplate.execute(status -> {
+                List<AICallbackInbox> rows = inboxRepository.findDueByIdsForUpdate(ids, InboxStatus.PENDING, LocalDateTime.now());
+                locked[0] = rows.size();
+                if (rows.isEmpty()) {
+                    return List.<AICallbackDTO>of();
+                }
+                List<AICallbackDTO> callbacks = new ArrayList<>(rows.size());
+                rows.forEach(row -> callbacks.add(read(row)));
+
+                List<AICallbackDTO> pending = withoutDuplicates(coalesce(callbacks));
+                if (!pending.isEmpty()) {
+                    batches.increment();
+                    lectureRepository.findAllById(pending.stream()
+                            .map(callback -> Long.parseLong(callback.getLecture_id()))
+                            .toList()); // 강의를 한 번에 영속성 컨텍스트에 적재
+                    pending.forEach(lectureService::updateLectureWithAIResult);
+                }
+                inboxRepository.deleteAllInBatch(rows);
+                return pending;
+            });
+            appliedCallbacks.forEach(this::markApplied);
+            return locked[0];
+        } catch (Exception e) {
+            // 한 건의 실패가 배치 전체를 막지 않도록 건별 트랜잭션으로 재시도
+            batchFallbacks.increment();
+            logger.warn("AI 콜백 배치 반영 실패, 건별 처리로 전환: size={}, error={}", ids.size(), e.getMessage());
+            int handled = 0;
+            for (Long inboxId : ids) {
+                if (applySingle(inboxId)) {
+                    handled++;
+                }
+            }
+            return handled;
+        }
+    }
+
+    // 다른 인스턴스가 잠근 행이면 false
+    private boolean applySingle(Long inboxId) {
+        try {
+            AICallbackDTO callbackData = transactionTemplate.execute(status -> {
+                List<AICallbackInbox> rows = inboxRepository.findDueByIdsForUpdate(
+                        List.of(inboxId), InboxStatus.PENDING, LocalDateTime.now());
+                if (rows.isEmpty()) {
+                    return null; // 다른 인스턴스가 반영 중이거나 이미 반영됨
+                }
+                AICallbackDTO callback = read(rows.get(0));
+                lectureService.updateLectureWithAIResult(callback);
+                inboxRepository.delete(rows.get(0));
+                return callback;
+            });
+            if (callbackData == null) {
+                return false;
+            }
+            markApplied(callbackData);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 콜백을 먼저 원장에 기록한 경우
+            transactionTemplate.executeWithoutResult(status -> inboxRepository.deleteById(inboxId));
+            duplicatesInLedger.increment();
+        } catch (Exception e) {
+            transactionTemplate.executeWithoutResult(status -> markAttemptFailed(inboxId, e));
+        }
+        return true;
+    }
+
+    private void markAttemptFailed(Long inboxId, Exception cause) {
+        inboxRepository.findById(inboxId).ifPresent(row -> {
+            String error = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+            row.setLastError(error.length() > 1000 ? error.substring(0, 1000) : error);
+            row.setAttempts(row.getAttempts() + 1);
+
+            // 강의가 삭제된 경우는 다시 반영해도 같은 결과
+            if (cause instanceof EntityNotFoundException || row.getAttempts() >= maxAttempts) {
+                row.setStatus(InboxStatus.FAILED);
+                failed.increment();
+                logger.error("AI 콜백 반영 최종 실패: lecture_id={}, task_id={}, attempts={}, error={}",
+                        row.getLectureId(), row.getTaskId(), row.getAttempts(), error, cause);
+                return;
+            }
+
+            row.setNextAttemptAt(LocalDateTime.now().plus(backoff(row.getAttempts())));
+            retried.increment();
+            logger.warn("AI 콜백 반영 실패, 재시도 예정: lecture_id={}, task_id={}, attempts={}, next={}, error={}",
+                    row.getLectureId(), row.getTaskId(), row.getAttempts(), row.getNextAttemptAt(), error);
+        });
+    }
+
+    // 지수 백오프 (최대값 제한, ±20% 지터)
+    private Duration backoff(int attempts) {
+        long exponential = initialBackoff.toMillis() << Math.min(attempts - 1, 20);
+        long capped = Math.min(exponential, maxBackoff.toMillis());
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (capped * jitter));
+    }
+
+    private AICallbackDTO read(AICallbackInbox row) {
+        try {
+            return objectMapper.readValue(row.getPayload(), AICallbackDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("AI 콜백 본문 해석 실패: inboxId=" + row.getId(), e);
+        }
+    }
+
+    // 같은 배치 안의 동일 (lecture_id, task_id) 콜백은 마지막 것 하나만 반영
+    private List<AICallbackDTO> coalesce(List<AICallbackDTO> batch) {
+        Map<Object, AICallbackDTO> unique = new LinkedHashMap<>();
+        for (AICallbackDTO callbackData : batch) {
+            String key = key(callbackData);
+            if (unique.put(key != null ? key : new Object(), callbackData) != null) {
+                coalesced.increment();
+            }
+        }
+        return new ArrayList<>(unique.values());
+    }
+
+    // 원장에 이미 있는 콜백 제외 (배치당 한 번 조회)
+    private List<AICallbackDTO> withoutDuplicates(List<AICallbackDTO> callbacks) {
+        Set<Long> lectureIds = new HashSet<>();
+        callbacks.forEach(callback -> lectureIds.add(Long.parseLong(callback.getLecture_id())));
+
+        Set<String> processed = new HashSet<>();
+        for (AICallbackReceipt receipt : receiptRepository.findByLectureIdIn(lectureIds)) {
+            processed.add(receipt.getLectureId() + ":" + receipt.getTaskId());
+        }
+
+        List<AICallbackDTO> pending = new ArrayList<>(callbacks.size());
+        for (AICallbackDTO callbackData : callbacks) {
+            String key = key(callbackData);
+            if (key != null && processed.contains(key)) {
+                remember(callbackData);
+                duplicatesInLedger.increment();
+            } else {
+                pending.add(callbackData);
+            }
+        }
+        return pending;
+    }
+
+    private void markApplied(AICallbackDTO callbackData) {
+        remember(callbackData);
+        applied.increment();
+    }
+
+    private void remember(AICallbackDTO callbackData) {
+        String key = key(callbackData);
+        if (key != null) {
+            recentlyProcessed.put(key, Boolean.TRUE);
+        }
+    }
+
+    // task_id가 없는 콜백은 중복 여부를 판단할 수 없으므로 키 없음 (항상 반영)
+    private static String key(AICallbackDTO callbackData) {
+        String taskId = callbackData.getTask_id();
+        if (taskId == null || taskId.isBlank()) {
+            return null;
+        }
+        return Long.parseLong(callbackData.getLecture_id()) + ":" + taskId;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("inboxPending", inboxRepository.countByStatus(InboxStatus.PENDING));
+        stats.put("inboxFailed", inboxRepository.countByStatus(InboxStatus.FAILED));
+        stats.put("accepted", accepted.sum());
+        stats.put("applied", applied.sum());
+        stats.put("retried", retried.sum());
+        stats.put("failed", failed.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("duplicatesInMemory", duplicatesInMemory.sum());
+        stats.put("duplicatesInLedger", duplicatesInLedger.sum());
+        stats.put("coalesced", coalesced.sum());
+        stats.put("batches", batches.sum());
+        stats.put("batchFallbacks", batchFallbacks.sum());
+        stats.put("recentKeys", recentlyProcessed.estimatedSize());
+        return stats;
+    }
+}
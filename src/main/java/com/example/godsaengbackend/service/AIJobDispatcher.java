@@ -0,0 +1,98 @@
+package com.example.godsaengbackend.service;
+
+import com.example.godsaengbackend.cache.UserTierCache;
+import com.example.godsaengbackend.dto.AIJobCandidate;
+import com.example.godsaengbackend.entity.Lecture;
+import com.example.godsaengbackend.repository.LectureRepository;
+import com.example.godsaengbackend.service.AIJobScheduler.Kind;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * AI 서버로 보내는 작업(아웃박스 처리 요청, 업로드 파일 전송)을 AIJobScheduler의 한 대기열과 처리 중 슬롯으로 내보냅니다.
+ * 전송 자체는 각 서비스가 AI 작업 실행기에서 수행하므로 스케줄러 스레드는 후보 조회와 점유만 합니다.
+ */
+@Service
+public class AIJobDispatcher {
+
+    private final AIJobScheduler jobScheduler;
+    private final AIOutboxService aiOutboxService;
+    private final LectureUploadService lectureUploadService;
+    private final LectureRepository lectureRepository;
+    private final UserTierCache userTierCache;
+
+    private final int batchSize;
+    private final int schedulerWindow;
+
+    public AIJobDispatcher(
+            AIJobScheduler jobScheduler,
+            AIOutboxService aiOutboxService,
+            LectureUploadService lectureUploadService,
+            LectureRepository lectureRepository,
+            UserTierCache userTierCache,
+            @Value("${ai.outbox.batch-size:50}") int batchSize,
+            @Value("${ai.scheduler.window:500}") int schedulerWindow) {
+        this.jobScheduler = jobScheduler;
+        this.aiOutboxService = aiOutboxService;
+        this.lectureUploadService = lectureUploadService;
+        this.lectureRepository = lectureRepository;
+        this.userTierCache = userTierCache;
+        this.batchSize = batchSize;
+        this.schedulerWindow = schedulerWindow;
+    }
+
+    /**
+     * 처리가 끝난 작업의 슬롯을 반납하고, 전송할 차례가 된 처리 요청과 업로드로 우선순위 대기열을 다시 만든 뒤
+     * 빈 슬롯만큼(최대 batch-size건) 우선순위가 높은 작업을 종류별 서비스에 넘겨 전송합니다.
+     */
+    @Scheduled(fixedDelayString = "${ai.outbox.poll-interval:1000}")
+    public void dispatchPending() {
+        releaseFinished();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<AIJobScheduler.Job> jobs = new ArrayList<>();
+        addJobs(jobs, Kind.PROCESS, aiOutboxService.findDueCandidates(now, schedulerWindow));
+        addJobs(jobs, Kind.UPLOAD, lectureUploadService.findDueCandidates(now, schedulerWindow));
+        jobScheduler.refresh(jobs);
+
+        List<AIJobScheduler.Job> next = jobScheduler.reserve(batchSize);
+        if (next.isEmpty()) {
+            return;
+        }
+        Set<Long> sending = new HashSet<>();
+        sending.addAll(aiOutboxService.send(next.stream().filter(job -> job.kind() == Kind.PROCESS).toList()));
+        sending.addAll(lectureUploadService.send(next.stream().filter(job -> job.kind() == Kind.UPLOAD).toList()));
+
+        // 다른 노드가 먼저 가져갔거나, 취소됐거나, 실행기가 가득 차 보내지 못한 작업은 슬롯 반납
+        for (AIJobScheduler.Job job : next) {
+            if (!sending.contains(job.lectureId())) {
+                jobScheduler.cancel(job.lectureId());
+            }
+        }
+    }
+
+    private void addJobs(List<AIJobScheduler.Job> jobs, Kind kind, List<AIJobCandidate> candidates) {
+        for (AIJobCandidate candidate : candidates) {
+            UserTierCache.Tier tier = candidate.getEmail() != null
+                    ? userTierCache.tierOf(candidate.getEmail()) : UserTierCache.Tier.BASIC;
+            jobs.add(jobScheduler.toJob(kind, candidate, tier));
+        }
+    }
+
+    // 처리 중으로 잡아 둔 강의 중 PROCESSING을 벗어난(완료/실패/삭제) 강의의 슬롯을 반납
+    private void releaseFinished() {
+        Set<Long> inFlight = jobScheduler.inFlightLectureIds();
+        if (inFlight.isEmpty()) {
+            return;
+        }
+        inFlight.removeAll(lectureRepository.findIdsByIdInAndStatus(inFlight, Lecture.LectureStatus.PROCESSING));
+        jobScheduler.complete(inFlight);
+    }
+}
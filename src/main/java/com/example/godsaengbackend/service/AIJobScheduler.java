@@ -0,0 +1,259 @@
+package com.example.godsaengbackend.service;
+
+import com.example.godsaengbackend.cache.UserTierCache.Tier;
+import com.example.godsaengbackend.dto.AIInFlightJob;
+import com.example.godsaengbackend.dto.AIJobCandidate;
+import com.example.godsaengbackend.dto.AIQueueStatusDto;
+import com.example.godsaengbackend.dto.AIQueueStatusDto.QueueState;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * AI 강의 처리 작업의 우선순위 대기열과 동시 처리 한도 (인스턴스별)
+ * 전송 대기 중인 아웃박스 요청(PROCESS)과 업로드 전송 작업(UPLOAD)을 한 대기열에서 rank가 작은 순서로 정렬하고,
+ * AI 서버에서 처리 중인 작업이 max-in-flight보다 적을 때만 다음 작업을 내보냅니다.
+ * 작업은 전송부터 강의가 PROCESSING을 벗어날 때까지 처리 중으로 봅니다.
+ *
+ * rank = 요청 생성 시각 - 등급 가산 - 마감 가산
+ * - 등급 가산: premium/god 사용자의 요청은 그만큼 먼저 들어온 것으로 취급
+ * - 마감 가산: 남은 일수가 deadline-horizon-days보다 하루 적을 때마다 deadline-credit-per-day씩
+ * 기다리는 요청의 rank는 그대로이고 새 요청은 더 늦은 시각에서 시작하므로, 어떤 요청도
+ * (최대 가산 합계)보다 오래 새 요청에 밀리지 않습니다 (aging).
+ */
+@Component
+public class AIJobScheduler {
+
+    public enum Kind {
+        PROCESS, // 아웃박스의 처리 요청 (sourceId = 아웃박스 ID)
+        UPLOAD   // 업로드 파일 전송 (sourceId = 업로드 작업 ID)
+    }
+
+    public record Job(Kind kind, Long sourceId, Long lectureId, Tier tier, Integer remainingDays, long rank) {
+    }
+
+    private static final Comparator<Job> ORDER = Comparator.comparingLong(Job::rank).thenComparing(Job::lectureId);
+    private static final double AVERAGE_WEIGHT = 0.2;
+
+    private final int maxInFlight;
+    private final Map<Tier, Long> tierCreditMillis = new EnumMap<>(Tier.class);
+    private final int deadlineHorizonDays;
+    private final long deadlineCreditPerDayMillis;
+    private final Duration inFlightTimeout;
+    private final long inFlightTimeoutNanos;
+
+    private List<Job> queue = List.of();
+    // lectureId → 전송 시각(nanoTime)
+    private final Map<Long, Long> inFlight = new LinkedHashMap<>();
+    private double averageJobNanos;
+    private long dispatched;
+    private long completed;
+    private long expired;
+    private long restored;
+
+    public AIJobScheduler(
+            MeterRegistry meterRegistry,
+            @Value("${ai.scheduler.max-in-flight:8}") int maxInFlight,
+            @Value("${ai.scheduler.tier-credit.premium:1800000}") long premiumCreditMillis,
+            @Value("${ai.scheduler.tier-credit.god:3600000}") long godCreditMillis,
+            @Value("${ai.scheduler.deadline-horizon-days:7}") int deadlineHorizonDays,
+            @Value("${ai.scheduler.deadline-credit-per-day:600000}") long deadlineCreditPerDayMillis,
+            @Value("${ai.scheduler.in-flight-timeout:3600000}") long inFlightTimeoutMillis,
+            @Value("${ai.scheduler.initial-job-estimate:600000}") long initialJobEstimateMillis) {
+        this.maxInFlight = maxInFlight;
+        this.tierCreditMillis.put(Tier.BASIC, 0L);
+        this.tierCreditMillis.put(Tier.PREMIUM, premiumCreditMillis);
+        this.tierCreditMillis.put(Tier.GOD, godCreditMillis);
+        this.deadlineHorizonDays = deadlineHorizonDays;
+        this.deadlineCreditPerDayMillis = deadlineCreditPerDayMillis;
+        this.inFlightTimeout = Duration.ofMillis(inFlightTimeoutMillis);
+        this.inFlightTimeoutNanos = inFlightTimeout.toNanos();
+        this.averageJobNanos = Duration.ofMillis(initialJobEstimateMillis).toNanos();
+
+        Gauge.builder("ai.scheduler.queued", this, AIJobScheduler::queued)
+                .description("AI 서버 전송을 기다리는 강의 처리 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("ai.scheduler.in.flight", this, AIJobScheduler::inFlightCount)
+                .description("AI 서버에서 처리 중인 강의 처리 작업 수")
+                .register(meterRegistry);
+    }
+
+    public Job toJob(Kind kind, AIJobCandidate candidate, Tier tier) {
+        return new Job(kind, candidate.getSourceId(), candidate.getLectureId(), tier, candidate.getRemainingDays(),
+                rank(candidate.getCreatedAt(), tier, candidate.getRemainingDays()));
+    }
+
+    public Duration getInFlightTimeout() {
+        return inFlightTimeout;
+    }
+
+    /**
+     * 재시작 전에 전송해 둔 작업을 처리 중으로 복원합니다. 경과 시간은 전송 시각부터 이어서 셉니다.
+     */
+    public synchronized void restore(List<AIInFlightJob> jobs) {
+        long now = System.nanoTime();
+        LocalDateTime wallNow = LocalDateTime.now();
+        for (AIInFlightJob job : jobs) {
+            long elapsedNanos = job.getSentAt() != null
+                    ? Math.max(0, Duration.between(job.getSentAt(), wallNow).toNanos()) : 0;
+            if (inFlight.putIfAbsent(job.getLectureId(), now - elapsedNanos) == null) {
+                restored++;
+            }
+        }
+    }
+
+    /**
+     * 대기열을 DB의 전송 대기 요청으로 다시 구성합니다. 처리 한도를 넘겨 오래 남은 작업은 슬롯을 반납합니다.
+     */
+    public synchronized void refresh(List<Job> candidates) {
+        long now = System.nanoTime();
+        Iterator<Long> startedAt = inFlight.values().iterator();
+        while (startedAt.hasNext()) {
+            if (now - startedAt.next() > inFlightTimeoutNanos) {
+                startedAt.remove();
+                expired++;
+            }
+        }
+
+        List<Job> sorted = new ArrayList<>(candidates.size());
+        for (Job job : candidates) {
+            if (!inFlight.containsKey(job.lectureId())) {
+                sorted.add(job);
+            }
+        }
+        sorted.sort(ORDER);
+        queue = sorted;
+    }
+
+    /**
+     * 빈 슬롯만큼(최대 max건) 우선순위가 높은 작업을 꺼내 처리 중으로 표시합니다.
+     * 꺼낸 작업을 전송하지 못하면 cancel로 슬롯을 반납해야 합니다.
+     */
+    public synchronized List<Job> reserve(int max) {
+        int count = Math.min(Math.min(maxInFlight - inFlight.size(), max), queue.size());
+        if (count <= 0) {
+            return List.of();
+        }
+        List<Job> next = new ArrayList<>(queue.subList(0, count));
+        queue = new ArrayList<>(queue.subList(count, queue.size()));
+        long now = System.nanoTime();
+        for (Job job : next) {
+            inFlight.put(job.lectureId(), now);
+        }
+        dispatched += count;
+        return next;
+    }
+
+    /**
+     * 전송하지 못한 작업의 슬롯을 반납합니다 (다른 노드가 먼저 가져감, 전송 실패 등).
+     */
+    public synchronized void cancel(Long lectureId) {
+        inFlight.remove(lectureId);
+    }
+
+    /**
+     * 처리가 끝난 작업의 슬롯을 반납하고 평균 처리 시간에 반영합니다.
+     */
+    public synchronized void complete(Collection<Long> lectureIds) {
+        long now = System.nanoTime();
+        for (Long lectureId : lectureIds) {
+            Long startedAt = inFlight.remove(lectureId);
+            if (startedAt != null) {
+                averageJobNanos += AVERAGE_WEIGHT * ((now - startedAt) - averageJobNanos);
+                completed++;
+            }
+        }
+    }
+
+    public synchronized Set<Long> inFlightLectureIds() {
+        return new HashSet<>(inFlight.keySet());
+    }
+
+    public synchronized AIQueueStatusDto status(Long lectureId) {
+        AIQueueStatusDto.AIQueueStatusDtoBuilder status = AIQueueStatusDto.builder()
+                .lectureId(lectureId)
+                .queueLength(queue.size())
+                .inFlight(inFlight.size())
+                .maxInFlight(maxInFlight);
+        long averageSeconds = Math.round(averageJobNanos / 1e9);
+
+        Long startedAt = inFlight.get(lectureId);
+        if (startedAt != null) {
+            long elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000L;
+            return status.state(QueueState.DISPATCHED)
+                    .estimatedStartSeconds(0L)
+                    .estimatedCompletionSeconds(Math.max(0, averageSeconds - elapsedSeconds))
+                    .build();
+        }
+        for (int index = 0; index < queue.size(); index++) {
+            Job job = queue.get(index);
+            if (job.lectureId().equals(lectureId)) {
+                // 빈 슬롯 안이면 다음 주기에 전송, 아니면 앞선 작업이 한 바퀴(maxInFlight건) 끝날 때마다 평균 처리 시간씩
+                int free = Math.max(0, maxInFlight - inFlight.size());
+                long startSeconds = index < free ? 0 : ((index - free) / maxInFlight + 1) * averageSeconds;
+                return status.state(QueueState.QUEUED)
+                        .tier(job.tier())
+                        .position(index + 1)
+                        .estimatedStartSeconds(startSeconds)
+                        .estimatedCompletionSeconds(startSeconds + averageSeconds)
+                        .build();
+            }
+        }
+        return status.state(QueueState.NOT_QUEUED).build();
+    }
+
+    public synchronized Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("queued", queue.size());
+        stats.put("inFlight", inFlight.size());
+        stats.put("maxInFlight", maxInFlight);
+        stats.put("dispatched", dispatched);
+        stats.put("completed", completed);
+        stats.put("expired", expired);
+        stats.put("restored", restored);
+        stats.put("averageJobSeconds", Math.round(averageJobNanos / 1e9));
+        List<Map<String, Object>> head = new ArrayList<>();
+        for (Job job : queue.subList(0, Math.min(10, queue.size()))) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("lectureId", job.lectureId());
+            entry.put("kind", job.kind());
+            entry.put("tier", job.tier());
+            entry.put("remainingDays", job.remainingDays());
+            head.add(entry);
+        }
+        stats.put("head", head);
+        return stats;
+    }
+
+    private long rank(LocalDateTime createdAt, Tier tier, Integer remainingDays) {
+        long createdAtMillis = createdAt != null
+                ? createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : System.currentTimeMillis();
+        long deadlineCredit = remainingDays == null ? 0
+                : Math.max(0, deadlineHorizonDays - Math.max(0, remainingDays)) * deadlineCreditPerDayMillis;
+        return createdAtMillis - tierCreditMillis.get(tier) - deadlineCredit;
+    }
+
+    private synchronized int queued() {
+        return queue.size();
+    }
+
+    private synchronized int inFlightCount() {
+        return inFlight.size();
+    }
+}
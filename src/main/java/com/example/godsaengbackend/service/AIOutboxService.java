@@ -0,0 +1,311 @@
+package com.example.godsaengbackend.service;
+
+import com.example.godsaengbackend.client.AIServiceUnavailableException;
+import com.example.godsaengbackend.dto.AIInFlightJob;
+import com.example.godsaengbackend.dto.AIJobCandidate;
+import com.example.godsaengbackend.dto.AIQueueStatusDto;
+import com.example.godsaengbackend.entity.AIOutboxEvent;
+import com.example.godsaengbackend.entity.AIOutboxEvent.OutboxStatus;
+import com.example.godsaengbackend.entity.Lecture;
+import com.example.godsaengbackend.repository.AIOutboxRepository;
+import com.example.godsaengbackend.repository.LectureRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * AI 작업 요청 아웃박스
+ * 강의 저장과 같은 트랜잭션에서 요청을 기록하고, 커밋된 요청만 배치 단위로 AI 서버에 전송합니다.
+ * 전송 실패 시 백오프 후 재시도하며, 재시도 간에는 같은 멱등성 키를 사용합니다.
+ * AI 서버가 4xx로 거절하면 바로 실패 처리하고, 로컬 거절(서킷 차단 등)은 시도 횟수에 넣지 않습니다.
+ * 업로드 강의는 업로드 파이프라인이 파일과 함께 전송하므로 아웃박스를 거치지 않습니다.
+ * 전송 순서와 동시 처리 수는 AIJobDispatcher가 AIJobScheduler로 정합니다 (등급/마감 우선순위, max-in-flight).
+ */
+@Service
+public class AIOutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AIOutboxService.class);
+
+    private static final List<OutboxStatus> DUE_STATUSES = List.of(OutboxStatus.PENDING, OutboxStatus.IN_FLIGHT);
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {};
+
+    private final AIOutboxRepository outboxRepository;
+    private final LectureRepository lectureRepository;
+    private final AIService aiService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor aiTaskExecutor;
+    private final AIJobScheduler jobScheduler;
+    private final LectureStatusNotifier lectureStatusNotifier;
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    public AIOutboxService(
+            AIOutboxRepository outboxRepository,
+            LectureRepository lectureRepository,
+            AIService aiService,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("aiTaskExecutor") TaskExecutor aiTaskExecutor,
+            AIJobScheduler jobScheduler,
+            LectureStatusNotifier lectureStatusNotifier,
+            @Value("${ai.outbox.max-attempts:8}") int maxAttempts,
+            @Value("${ai.outbox.initial-backoff:2000}") long initialBackoff,
+            @Value("${ai.outbox.max-backoff:300000}") long maxBackoff,
+            @Value("${ai.outbox.lease:60000}") long lease) {
+        this.outboxRepository = outboxRepository;
+        this.lectureRepository = lectureRepository;
+        this.aiService = aiService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.aiTaskExecutor = aiTaskExecutor;
+        this.jobScheduler = jobScheduler;
+        this.lectureStatusNotifier = lectureStatusNotifier;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofMillis(initialBackoff);
+        this.maxBackoff = Duration.ofMillis(maxBackoff);
+        this.lease = Duration.ofMillis(lease);
+    }
+
+    /**
+     * 강의 처리 요청을 아웃박스에 기록합니다. 강의를 저장하는 트랜잭션 안에서 호출해야 합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueProcessLecture(Lecture lecture, Integer remainingDays) {
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        Map<String, Object> requestBody = aiService.buildProcessRequest(
+                lecture.getId(), lecture.getSourceType(), lecture.getVideoUrl(), remainingDays);
+        requestBody.put("idempotency_key", idempotencyKey);
+
+        AIOutboxEvent event = AIOutboxEvent.builder()
+                .lectureId(lecture.getId())
+                .eventType(AIOutboxEvent.EventType.PROCESS_LECTURE)
+                .payload(toJson(requestBody))
+                .idempotencyKey(idempotencyKey)
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+
+        outboxRepository.save(event);
+        logger.debug("AI 처리 요청 아웃박스 기록: lectureId={}, key={}", lecture.getId(), idempotencyKey);
+    }
+
+    /**
+     * 재시작 전에 AI 서버에 맡겨 둔 작업(SENT, 강의가 아직 PROCESSING)을 스케줄러의 처리 중 슬롯으로 복원합니다.
+     * 복원하지 않으면 재시작 직후 max-in-flight만큼 새로 전송해 AI 서버에 한도를 넘는 작업이 쌓입니다.
+     * 어느 인스턴스가 전송했는지는 기록하지 않으므로, 여러 인스턴스에서는 다른 인스턴스의 작업까지 복원해
+     * 해당 작업이 끝날 때까지 한도를 보수적으로(적게) 적용합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreInFlight() {
+        try {
+            List<AIInFlightJob> sent = outboxRepository.findSentSince(OutboxStatus.SENT, Lecture.LectureStatus.PROCESSING,
+                    LocalDateTime.now().minus(jobScheduler.getInFlightTimeout()));
+            jobScheduler.restore(sent);
+            if (!sent.isEmpty()) {
+                logger.info("AI 처리 중 작업 복원: {}건", sent.size());
+            }
+        } catch (RuntimeException e) {
+            // 복원하지 못해도 in-flight-timeout이 지나면 한도가 정상으로 돌아오므로 기동은 계속함
+            logger.warn("AI 처리 중 작업 복원 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전송할 차례가 된 요청을 스케줄러 대기열 후보로 조회합니다 (최대 limit건).
+     */
+    public List<AIJobCandidate> findDueCandidates(LocalDateTime now, int limit) {
+        return outboxRepository.findDueCandidates(DUE_STATUSES, now, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 스케줄러가 내보낸 요청을 점유해 AI 작업 실행기에서 전송하고, 실제로 전송을 시작한 강의 ID를 반환합니다.
+     * 전송 완료를 기다리지 않으므로 AI 서버가 느려도 호출한 스케줄러 스레드를 붙잡지 않습니다 (진행 중인 요청은 슬롯과 lease로 중복 전송을 막음).
+     */
+    public Set<Long> send(List<AIJobScheduler.Job> jobs) {
+        if (jobs.isEmpty()) {
+            return Set.of();
+        }
+        List<AIOutboxEvent> claimed = transactionTemplate.execute(status -> claim(jobs));
+
+        Set<Long> sending = new HashSet<>();
+        for (AIOutboxEvent event : claimed) {
+            if (event.getStatus() == OutboxStatus.IN_FLIGHT && submit(event)) {
+                sending.add(event.getLectureId());
+            }
+        }
+        return sending;
+    }
+
+    /**
+     * 강의의 AI 처리 대기 순번과 예상 시간을 조회합니다.
+     */
+    public AIQueueStatusDto getQueueStatus(Long lectureId) {
+        return jobScheduler.status(lectureId);
+    }
+
+    public Map<String, Object> schedulerStats() {
+        return jobScheduler.stats();
+    }
+
+    private boolean submit(AIOutboxEvent event) {
+        try {
+            aiTaskExecutor.execute(() -> dispatch(event));
+            return true;
+        } catch (RejectedExecutionException e) {
+            // 실행기가 가득 차면 스케줄러 스레드에서 전송하지 않고 점유를 풀어 다음 주기에 다시 고르도록 함 (back-pressure, 슬롯은 호출한 쪽이 반납)
+            transactionTemplate.executeWithoutResult(status -> unclaim(event.getId()));
+            return false;
+        }
+    }
+
+    private void unclaim(Long eventId) {
+        outboxRepository.findById(eventId).ifPresent(event -> {
+            event.setStatus(OutboxStatus.PENDING);
+            event.setAttempts(event.getAttempts() - 1);
+            event.setNextAttemptAt(LocalDateTime.now());
+            logger.debug("AI 작업 실행기 포화로 전송 보류: lectureId={}", event.getLectureId());
+        });
+    }
+
+    /**
+     * 스케줄러가 고른 이벤트를 잠그고 IN_FLIGHT로 점유합니다.
+     * 점유 후 lease 안에 결과가 기록되지 않으면(프로세스 종료 등) 다시 전송 대상이 됩니다.
+     */
+    private List<AIOutboxEvent> claim(List<AIJobScheduler.Job> jobs) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = jobs.stream().map(AIJobScheduler.Job::sourceId).toList();
+        List<AIOutboxEvent> due = outboxRepository.findDueByIdsForUpdate(ids, DUE_STATUSES, now);
+
+        for (AIOutboxEvent event : due) {
+            Optional<Lecture.SourceType> sourceType = lectureRepository.findSourceTypeById(event.getLectureId());
+            if (sourceType.isEmpty() || sourceType.get() == Lecture.SourceType.UPLOAD) {
+                // 전송 전에 강의가 삭제된 경우, 또는 업로드 파이프라인이 전송하는 업로드 강의의 요청(이전에 기록된 행)
+                event.setStatus(OutboxStatus.CANCELLED);
+                continue;
+            }
+            event.setStatus(OutboxStatus.IN_FLIGHT);
+            event.setAttempts(event.getAttempts() + 1);
+            event.setNextAttemptAt(now.plus(lease));
+        }
+        return due;
+    }
+
+    private void dispatch(AIOutboxEvent event) {
+        try {
+            Map<String, Object> requestBody = objectMapper.readValue(event.getPayload(), PAYLOAD_TYPE);
+            aiService.processLecture(requestBody, event.getIdempotencyKey());
+            transactionTemplate.executeWithoutResult(status -> markSent(event.getId()));
+        } catch (Exception e) {
+            // 재시도 대기 중에는 다른 요청이 슬롯을 쓰도록 반납
+            jobScheduler.cancel(event.getLectureId());
+            transactionTemplate.executeWithoutResult(status -> markAttemptFailed(event.getId(), e));
+        }
+    }
+
+    private void markSent(Long eventId) {
+        outboxRepository.findById(eventId).ifPresent(event -> {
+            event.setStatus(OutboxStatus.SENT);
+            event.setSentAt(LocalDateTime.now());
+            event.setLastError(null);
+            logger.info("강의 ID {}에 대한 AI 처리 요청을 전송했습니다. (attempts={})",
+                    event.getLectureId(), event.getAttempts());
+        });
+    }
+
+    private void markAttemptFailed(Long eventId, Exception cause) {
+        outboxRepository.findById(eventId).ifPresent(event -> {
+            String error = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+            event.setLastError(error.length() > 1000 ? error.substring(0, 1000) : error);
+
+            if (cause instanceof AIServiceUnavailableException unavailable) {
+                // 서킷/동시 호출 한도/벌크헤드에서 로컬로 거절된 경우 - AI 서버에 도달하지 않았으므로 시도 횟수에서 제외
+                event.setAttempts(event.getAttempts() - 1);
+                event.setStatus(OutboxStatus.PENDING);
+                event.setNextAttemptAt(LocalDateTime.now().plusSeconds(unavailable.getRetryAfterSeconds()));
+                logger.debug("AI 처리 요청 전송 보류: lectureId={}, next={}, error={}",
+                        event.getLectureId(), event.getNextAttemptAt(), error);
+                return;
+            }
+
+            boolean rejectedByServer = isClientError(cause);
+            if (rejectedByServer || event.getAttempts() >= maxAttempts) {
+                event.setStatus(OutboxStatus.FAILED);
+                lectureRepository.findById(event.getLectureId())
+                        // 그 사이 콜백으로 완료/실패가 반영된 강의는 그대로 둠
+                        .filter(lecture -> lecture.getStatus() == Lecture.LectureStatus.PROCESSING)
+                        .ifPresent(lecture -> {
+                            lecture.setStatus(Lecture.LectureStatus.FAILED);
+                            lectureStatusNotifier.publish(lecture.getUser().getId(), lecture.getId(), Lecture.LectureStatus.FAILED);
+                        });
+                logger.error("AI 처리 요청 전송 최종 실패: lectureId={}, attempts={}, rejected={}, error={}",
+                        event.getLectureId(), event.getAttempts(), rejectedByServer, error);
+                return;
+            }
+
+            event.setStatus(OutboxStatus.PENDING);
+            event.setNextAttemptAt(LocalDateTime.now().plus(backoff(event.getAttempts())));
+            logger.warn("AI 처리 요청 전송 실패, 재시도 예정: lectureId={}, attempts={}, next={}, error={}",
+                    event.getLectureId(), event.getAttempts(), event.getNextAttemptAt(), error);
+        });
+    }
+
+    // AI 서버가 요청 자체를 거절한 경우(4xx)는 재전송해도 같은 결과 - 408/429는 일시적이므로 재시도
+    private static boolean isClientError(Exception cause) {
+        if (cause instanceof WebClientResponseException responseException) {
+            HttpStatusCode status = responseException.getStatusCode();
+            return status.is4xxClientError()
+                    && status.value() != HttpStatus.REQUEST_TIMEOUT.value()
+                    && status.value() != HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+        return false;
+    }
+
+    // 지수 백오프 (최대값 제한, ±20% 지터)
+    private Duration backoff(int attempts) {
+        long exponential = initialBackoff.toMillis() << Math.min(attempts - 1, 20);
+        long capped = Math.min(exponential, maxBackoff.toMillis());
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (capped * jitter));
+    }
+
+    private String toJson(Map<String, Object> requestBody) {
+        try {
+            return objectMapper.writeValueAsString(requestBody);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("AI 요청 본문 직렬화 실패", e);
+        }
+    }
+}
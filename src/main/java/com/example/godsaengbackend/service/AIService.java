@@ -1,136 +1,114 @@
 package com.example.godsaengbackend.service;
 
+import com.example.godsaengbackend.client.AIGatewayClient;
+import com.example.godsaengbackend.dto.AIUploadResponse;
 import com.example.godsaengbackend.entity.Lecture;
 import com.example.godsaengbackend.repository.LectureRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
+import org.springframework.core.io.Resource;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 public class AIService {
 
     private static final Logger logger = LoggerFactory.getLogger(AIService.class);
     
-    private final RestTemplate restTemplate;
+    private final AIGatewayClient aiGatewayClient;
     private final LectureRepository lectureRepository;
-    
-    @Value("${ai.service.url}")
-    private String aiServiceUrl;
 
-    public AIService(RestTemplate restTemplate, LectureRepository lectureRepository) {
-        this.restTemplate = restTemplate;
+    public AIService(AIGatewayClient aiGatewayClient, LectureRepository lectureRepository) {
+        this.aiGatewayClient = aiGatewayClient;
         this.lectureRepository = lectureRepository;
     }
 
-    @Async
-    public void processLecture(Long lectureId, Lecture.SourceType sourceType, String videoUrl, Integer remainingDays) {
-        try {
-            // 강의 정보 조회
-           
-            // AI 서비스에 요청 보내기
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("lecture_id", lectureId);
-            requestBody.put("source_type", sourceType.toString());
-            
-            // 남은 일수 정보 추가
-            if (remainingDays != null) {
-                requestBody.put("remaining_days", remainingDays);
-            }
-            
-            // 콜백 URL 추가 - AI 서버가 처리 완료 후 이 URL로 결과를 보냄
-            String callbackUrl = "http://localhost:8080/api/ai/callback/complete";
-            requestBody.put("callback_url", callbackUrl);
-            
-            if (sourceType == Lecture.SourceType.YOUTUBE) {
-                requestBody.put("youtube_url", videoUrl);
-            } else {
-                // 파일 업로드의 경우 파일 경로 전송
-                requestBody.put("file_url", videoUrl);
-            }
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-            
-            // AI 서비스에 비동기 처리 요청
-            restTemplate.postForObject(aiServiceUrl + "/process", request, Void.class);
-            
-            logger.info("강의 ID {}에 대한 AI 처리 요청을 전송했습니다.", lectureId);
-            
-        } catch (Exception e) {
-            logger.error("AI 처리 요청 중 오류 발생: {}", e.getMessage());
+    /**
+     * 강의 처리 요청 본문을 구성합니다.
+     */
+    public Map<String, Object> buildProcessRequest(Long lectureId, Lecture.SourceType sourceType, String videoUrl, Integer remainingDays) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("lecture_id", lectureId);
+        requestBody.put("source_type", sourceType.toString());
+        
+        // 남은 일수 정보 추가
+        if (remainingDays != null) {
+            requestBody.put("remaining_days", remainingDays);
+        }
+        
+        // 콜백 URL 추가 - AI 서버가 처리 완료 후 이 URL로 결과를 보냄
+        String callbackUrl = "http://localhost:8080/api/ai/callback/complete";
+        requestBody.put("callback_url", callbackUrl);
+        
+        if (sourceType == Lecture.SourceType.YOUTUBE) {
+            requestBody.put("youtube_url", videoUrl);
+        } else {
+            // 파일 업로드의 경우 파일 경로 전송
+            requestBody.put("file_url", videoUrl);
         }
+        return requestBody;
+    }
+
+    /**
+     * AI 서비스에 강의 처리 요청을 전송합니다. 실패하면 예외가 발생합니다.
+     * 같은 작업의 재전송에는 같은 멱등성 키를 사용해야 합니다.
+     */
+    public void processLecture(Map<String, Object> requestBody, String idempotencyKey) {
+        aiGatewayClient.process(requestBody, idempotencyKey);
+        logger.debug("AI 처리 요청 전송: lecture_id={}, key={}", requestBody.get("lecture_id"), idempotencyKey);
     }
     
     // 파일 업로드를 위한 메서드 - 파일을 직접 Flask 서버로 전송
     public String uploadFileToAIService(MultipartFile file, Long lectureId) {
+        // multipart 임시 파일에서 바로 읽어 전송 (파일 전체를 힙에 올리지 않음)
+        return uploadFileToAIService(file.getResource(), lectureId, null);
+    }
+
+    /**
+     * 파일 리소스를 고정 크기 버퍼 단위로 읽어 AI 서버 /process로 스트리밍 업로드합니다.
+     * 리소스의 getFilename()이 업로드 파일명으로 사용되며, idempotencyKey는 재전송 시에도 같은 값을 넘깁니다.
+     */
+    public String uploadFileToAIService(Resource file, Long lectureId, String idempotencyKey) {
         try {
             // 강의 정보 조회
             Lecture lecture = lectureRepository.findById(lectureId)
                 .orElseThrow(() -> new RuntimeException("강의를 찾을 수 없습니다: " + lectureId));
             
-            // 파일 데이터를 MultipartFile에서 추출
-            String filename = file.getOriginalFilename();
-            byte[] fileBytes = file.getBytes();
+            // multipart 본문 생성
+            MultipartBodyBuilder body = new MultipartBodyBuilder();
             
-            // MultiValueMap 생성
-            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            
-            // 파일 데이터 추가
-            ByteArrayResource resource = new ByteArrayResource(fileBytes) {
-                @Override
-                public String getFilename() {
-                    return filename;
-                }
-            };
-            body.add("file", resource);
+            // 파일 데이터 추가 - 전송 시점에 리소스 스트림에서 순차적으로 읽음
+            body.part("file", file);
             
             // lecture_id 추가 - 중요!
-            body.add("lecture_id", lectureId.toString());
+            body.part("lecture_id", lectureId.toString());
             
             // 남은 일수 정보 추가
             if (lecture.getRemainingDays() != null) {
-                body.add("remaining_days", lecture.getRemainingDays().toString());
+                body.part("remaining_days", lecture.getRemainingDays().toString());
             }
             
             // 콜백 URL 추가
             String callbackUrl = "http://localhost:8080/api/ai/callback/complete";
-            body.add("callback_url", callbackUrl);
-            
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-            
-            // HTTP 요청 생성
-            HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
+            body.part("callback_url", callbackUrl);
+
+            if (idempotencyKey != null) {
+                body.part("idempotency_key", idempotencyKey);
+            }
             
-            // Flask 서버로 요청 전송
-            ResponseEntity<Map> response = restTemplate.postForEntity(
-                    aiServiceUrl + "/process", requestEntity, Map.class);
+            // Flask 서버로 요청 전송 (2xx가 아니면 예외 발생)
+            AIUploadResponse response = aiGatewayClient.upload(body.build(), idempotencyKey);
             
             // 응답에서 파일 URL 또는 식별자 추출
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                if (response.getBody().containsKey("task_id")) {
-                    return (String) response.getBody().get("task_id");
-                } else if (response.getBody().containsKey("file_url")) {
-                    return (String) response.getBody().get("file_url");
+            if (response != null) {
+                if (response.getTaskId() != null) {
+                    return response.getTaskId();
+                } else if (response.getFileUrl() != null) {
+                    return response.getFileUrl();
                 } else {
                     throw new RuntimeException("파일 업로드 실패: 응답에서 task_id 또는 file_url을 찾을 수 없습니다.");
                 }
@@ -142,8 +120,4 @@ public class AIService {
             throw new RuntimeException("파일 업로드 실패", e);
         }
     }
-
-
-
-
-}
+}
\ No newline at end of file
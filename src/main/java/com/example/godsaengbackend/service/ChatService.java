@@ -1,6 +1,12 @@
 package com.example.godsaengbackend.service;
 
+import com.example.godsaengbackend.cache.AnswerCache;
+import com.example.godsaengbackend.client.AIGatewayClient;
+import com.example.godsaengbackend.client.AIServiceUnavailableException;
+import com.example.godsaengbackend.client.SingleFlight;
+import com.example.godsaengbackend.dto.AIQueryResponse;
 import com.example.godsaengbackend.dto.ChatHistoryDTO;
+import com.example.godsaengbackend.dto.ChatHistoryRow;
 import com.example.godsaengbackend.dto.ChatRequestDTO;
 import com.example.godsaengbackend.dto.ChatResponseDTO;
 import com.example.godsaengbackend.entity.ChatMessage;
@@ -9,258 +15,407 @@ import com.example.godsaengbackend.entity.User;
 import com.example.godsaengbackend.repository.ChatMessageRepository;
 import com.example.godsaengbackend.repository.LectureRepository;
 import com.example.godsaengbackend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.JsonNode;
-
 @Service
 public class ChatService {
 
     private static final Logger logger = LoggerFactory.getLogger(ChatService.class);
 
+    private static final int DEFAULT_HISTORY_PAGE_SIZE = 50;
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+    private static final String DEFAULT_TONE = "b";
+
     private final ChatMessageRepository chatMessageRepository;
     private final LectureRepository lectureRepository;
     private final UserRepository userRepository;
-    private final RestTemplate restTemplate;
-    
-    @Value("${ai.service.url}")
-    private String aiServiceUrl;
+    private final AIGatewayClient aiGatewayClient;
+    private final AnswerCache answerCache;
+    private final SingleFlight<AnswerCache.AnswerKey, String> queryFlights;
+    private final TransactionTemplate transactionTemplate;
 
     public ChatService(
             ChatMessageRepository chatMessageRepository,
             LectureRepository lectureRepository,
             UserRepository userRepository,
-            RestTemplate restTemplate) {
+            AIGatewayClient aiGatewayClient,
+            AnswerCache answerCache,
+            MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager,
+            @Value("${ai.query.coalesce-timeout:65000}") long coalesceTimeout) {
         this.chatMessageRepository = chatMessageRepository;
         this.lectureRepository = lectureRepository;
         this.userRepository = userRepository;
-        this.restTemplate = restTemplate;
+        this.aiGatewayClient = aiGatewayClient;
+        this.answerCache = answerCache;
+        this.queryFlights = new SingleFlight<>("query", Duration.ofMillis(coalesceTimeout), meterRegistry);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 질문 저장 단계에서 확보한 질문/답변 식별자
+     */
+    private record PendingExchange(Long questionId, Long answerId, String question, String taskId) {
     }
 
     /**
      * 강의에 대한 질문을 전송하고 AI 응답을 받아 저장합니다.
+     * AI 서버 응답을 기다리는 동안에는 트랜잭션과 DB 커넥션을 점유하지 않도록
+     * 질문 저장 / AI 호출 / 답변 확정 단계를 분리합니다.
+     * AI 서버가 차단(서킷 열림)되었거나 동시 호출 한도를 넘으면 질문을 남기지 않고
+     * AIServiceUnavailableException(503)을 그대로 전달합니다.
      */
-    @Transactional
     public ChatResponseDTO sendQuestion(String email, Long lectureId, ChatRequestDTO request) {
+        // 0. AI 서버가 차단 중이면 아무것도 저장하지 않고 즉시 실패
+        aiGatewayClient.checkQueryAvailable();
+
+        // 1. 사용자 질문과 대기 중(PENDING) 답변을 짧은 트랜잭션으로 저장
+        PendingExchange exchange = transactionTemplate.execute(
+                status -> persistQuestion(email, lectureId, request.getQuestion()));
+
+        // 2. 트랜잭션 밖에서 AI 서버에 질문 전송
+        String aiResponse;
+        ChatMessage.MessageStatus answerStatus;
+        try {
+            aiResponse = requestAIResponse(exchange.taskId(), request.getQuestion(), request.getTone());
+            answerStatus = ChatMessage.MessageStatus.COMPLETED;
+        } catch (AIServiceUnavailableException e) {
+            // AI 서버를 호출하지 않고 거절된 경우 오류 문구를 답변으로 남기지 않음
+            transactionTemplate.executeWithoutResult(status -> discardExchange(exchange));
+            throw e;
+        } catch (Exception e) {
+            logger.error("AI 응답 요청 실패: {}", e.getMessage(), e);
+            aiResponse = "죄송합니다. AI 응답을 받아오는 데 실패했습니다: " + e.getMessage();
+            answerStatus = ChatMessage.MessageStatus.FAILED;
+        }
+
+        // 3. AI 응답으로 대기 중 답변 확정
+        String answerContent = aiResponse;
+        ChatMessage.MessageStatus finalStatus = answerStatus;
+        ChatMessage savedAnswer = transactionTemplate.execute(
+                status -> completeAnswer(exchange.answerId(), answerContent, finalStatus));
+        logger.debug("AI 응답 저장 완료: id={}, parentId={}, status={}",
+                savedAnswer.getId(), savedAnswer.getParentId(), savedAnswer.getStatus());
+
+        // 응답 DTO 생성
+        return ChatResponseDTO.builder()
+                .questionId(exchange.questionId())
+                .answerId(savedAnswer.getId())
+                .question(exchange.question())
+                .answer(savedAnswer.getContent())
+                .timestamp(savedAnswer.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * 강의에 대한 질문을 전송하고 AI 응답을 토큰 단위로 스트리밍합니다.
+     * 스트림이 끝나면 조립된 답변을 질문에 연결된 ASSISTANT 메시지로 저장합니다.
+     * 캐시된 답변이 있으면 AI 서버를 호출하지 않고 답변 전체를 하나의 토큰으로 보냅니다.
+     * AI 서버 호출이 거절되면 저장한 질문을 지우고 error 이벤트만 보냅니다.
+     */
+    public Flux<ServerSentEvent<Object>> streamQuestion(String email, Long lectureId, ChatRequestDTO request) {
+        aiGatewayClient.checkQueryAvailable();
+
+        PendingExchange exchange = transactionTemplate.execute(
+                status -> persistQuestion(email, lectureId, request.getQuestion()));
+
+        StringBuilder answer = new StringBuilder();
+        AnswerCache.AnswerKey answerKey = answerKey(exchange.taskId(), request.getQuestion(), request.getTone());
+        String cachedAnswer = answerCache.find(answerKey);
+        long cacheGeneration = answerCache.generation(answerKey.taskId());
+
+        // 첫 바이트를 바로 내보내기 위해 질문 저장 결과부터 전송
+        Mono<ServerSentEvent<Object>> questionEvent = Mono.just(ServerSentEvent.builder()
+                .event("question")
+                .data(Map.of("questionId", exchange.questionId(), "answerId", exchange.answerId()))
+                .build());
+
+        Flux<String> tokens = cachedAnswer != null
+                ? Flux.just(cachedAnswer)
+                : requestAIResponseStream(exchange.taskId(), request.getQuestion(), request.getTone());
+
+        Flux<ServerSentEvent<Object>> tokenEvents = tokens
+                .doOnNext(answer::append)
+                .map(token -> ServerSentEvent.builder()
+                        .event("token")
+                        .data(Map.of("token", token))
+                        .build());
+
+        Mono<ServerSentEvent<Object>> doneEvent = Mono.fromCallable(() -> {
+                    ChatMessage savedAnswer = transactionTemplate.execute(status -> completeAnswer(
+                            exchange.answerId(), answer.toString(), ChatMessage.MessageStatus.COMPLETED));
+                    if (cachedAnswer == null && !answer.isEmpty()) {
+                        answerCache.put(answerKey, answer.toString(), cacheGeneration);
+                    }
+                    return savedAnswer;
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(savedAnswer -> ServerSentEvent.builder()
+                        .event("done")
+                        .data(ChatResponseDTO.builder()
+                                .questionId(exchange.questionId())
+                                .answerId(savedAnswer.getId())
+                                .question(exchange.question())
+                                .answer(savedAnswer.getContent())
+                                .timestamp(savedAnswer.getCreatedAt())
+                                .build())
+                        .build());
+
+        return Flux.concat(questionEvent, tokenEvents, doneEvent)
+                .onErrorResume(AIServiceUnavailableException.class, e -> {
+                    logger.warn("AI 스트리밍 요청 거절: {}", e.getMessage());
+                    return Mono.fromRunnable(() -> transactionTemplate.executeWithoutResult(
+                                    status -> discardExchange(exchange)))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .then(Mono.just(ServerSentEvent.builder()
+                                    .event("error")
+                                    .data(Map.of("error", e.getMessage(),
+                                            "retryAfterSeconds", e.getRetryAfterSeconds()))
+                                    .build()));
+                })
+                .onErrorResume(e -> {
+                    logger.error("AI 스트리밍 응답 실패: {}", e.getMessage(), e);
+                    String failure = "죄송합니다. AI 응답을 받아오는 데 실패했습니다: " + e.getMessage();
+                    return Mono.fromCallable(() -> transactionTemplate.execute(
+                                    status -> completeAnswer(exchange.answerId(), failure, ChatMessage.MessageStatus.FAILED)))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .map(savedAnswer -> ServerSentEvent.builder()
+                                    .event("error")
+                                    .data(Map.of("answerId", savedAnswer.getId(), "error", failure))
+                                    .build());
+                })
+                .doOnCancel(() -> Schedulers.boundedElastic().schedule(() -> {
+                    // 클라이언트가 연결을 끊으면 받은 데까지만 저장
+                    logger.info("AI 스트리밍 취소: answerId={}, length={}", exchange.answerId(), answer.length());
+                    transactionTemplate.executeWithoutResult(status -> completeAnswer(
+                            exchange.answerId(), answer.toString(), ChatMessage.MessageStatus.FAILED));
+                }));
+    }
+
+    /**
+     * 사용자 질문과 대기 중인 답변 메시지를 저장합니다.
+     */
+    private PendingExchange persistQuestion(String email, Long lectureId, String question) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
-        
+
         Lecture lecture = lectureRepository.findByIdAndUser(lectureId, user)
                 .orElseThrow(() -> new EntityNotFoundException("강의를 찾을 수 없거나 접근 권한이 없습니다."));
-        
+
         // 강의의 task_id 확인
         String taskId = lecture.getTaskId();
         if (taskId == null || taskId.isEmpty()) {
             throw new RuntimeException("AI 처리가 완료되지 않은 강의입니다.");
         }
-        
+
         // 사용자 질문 저장
         ChatMessage questionMessage = ChatMessage.builder()
                 .lecture(lecture)
                 .user(user)
                 .role(ChatMessage.MessageRole.USER)
-                .content(request.getQuestion())
+                .content(question)
                 .build();
-        
+
         ChatMessage savedQuestion = chatMessageRepository.save(questionMessage);
         logger.debug("사용자 질문 저장 완료: id={}, content={}", savedQuestion.getId(), savedQuestion.getContent());
-        
-        // AI 서버에 질문 전송
-        String aiResponse = requestAIResponse(taskId, request.getQuestion(), request.getTone());
-        
-        // AI 응답 저장
-        ChatMessage answerMessage = ChatMessage.builder()
+
+        // 답변 자리 확보 (AI 응답 전까지 PENDING)
+        ChatMessage pendingAnswer = ChatMessage.builder()
                 .lecture(lecture)
                 .role(ChatMessage.MessageRole.ASSISTANT)
-                .content(aiResponse)
+                .content("")
                 .parentId(savedQuestion.getId())  // 질문-답변 연결
+                .status(ChatMessage.MessageStatus.PENDING)
                 .build();
-        
-        ChatMessage savedAnswer = chatMessageRepository.save(answerMessage);
-        logger.debug("AI 응답 저장 완료: id={}, parentId={}", savedAnswer.getId(), savedAnswer.getParentId());
-        
-        // 응답 DTO 생성
-        return ChatResponseDTO.builder()
-                .questionId(savedQuestion.getId())
-                .answerId(savedAnswer.getId())
-                .question(savedQuestion.getContent())
-                .answer(savedAnswer.getContent())
-                .timestamp(savedAnswer.getCreatedAt())
-                .build();
+
+        ChatMessage savedAnswer = chatMessageRepository.save(pendingAnswer);
+
+        return new PendingExchange(savedQuestion.getId(), savedAnswer.getId(), savedQuestion.getContent(), taskId);
     }
-    
+
+    /**
+     * AI 서버에 보내지 못한 질문과 대기 중 답변을 삭제합니다.
+     */
+    private void discardExchange(PendingExchange exchange) {
+        chatMessageRepository.deleteAllById(List.of(exchange.answerId(), exchange.questionId()));
+    }
+
+    /**
+     * 대기 중인 답변 메시지에 AI 응답을 기록합니다.
+     */
+    private ChatMessage completeAnswer(Long answerId, String content, ChatMessage.MessageStatus status) {
+        ChatMessage answer = chatMessageRepository.findById(answerId)
+                .orElseThrow(() -> new EntityNotFoundException("답변 메시지를 찾을 수 없습니다: " + answerId));
+
+        answer.setContent(content);
+        answer.setStatus(status);
+        return answer;
+    }
+
     /**
-     * 강의별 채팅 기록을 조회합니다.
+     * 강의별 채팅 기록을 키셋 페이지 단위로 조회합니다.
+     * cursor가 없으면 가장 최근 대화부터, 있으면 cursor(질문 ID)보다 이전 대화를 size개(기본 50개) 반환합니다.
+     * cursor와 size가 모두 없으면 페이지를 나누기 전 클라이언트와 호환되도록 전체 기록을 반환합니다.
+     * 각 페이지의 메시지는 시간순(오래된 것부터)으로 정렬됩니다.
      */
     @Transactional(readOnly = true)
-    public ChatHistoryDTO getChatHistory(String email, Long lectureId) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
-        
-        Lecture lecture = lectureRepository.findByIdAndUser(lectureId, user)
+    public ChatHistoryDTO getChatHistory(String email, Long lectureId, Long cursor, Integer size) {
+        String lectureTitle = lectureRepository.findTitleByIdAndUserEmail(lectureId, email)
                 .orElseThrow(() -> new EntityNotFoundException("강의를 찾을 수 없거나 접근 권한이 없습니다."));
-        
-        // 채팅 메시지 조회
-        List<ChatMessage> messages = chatMessageRepository.findByLectureIdOrderByIdAsc(lectureId);
-        
-        // 질문-답변 쌍으로 변환
-        List<ChatResponseDTO> chatResponses = new ArrayList<>();
-        
-        for (int i = 0; i < messages.size(); i++) {
-            ChatMessage message = messages.get(i);
-            
-            if (message.getRole() == ChatMessage.MessageRole.USER) {
-                // 사용자 질문 메시지인 경우
-                ChatMessage answerMessage = null;
-                
-                // 다음 메시지가 있고 해당 메시지가 이 질문에 대한 답변인지 확인
-                if (i + 1 < messages.size() && 
-                    messages.get(i + 1).getRole() == ChatMessage.MessageRole.ASSISTANT &&
-                    messages.get(i + 1).getParentId() != null &&
-                    messages.get(i + 1).getParentId().equals(message.getId())) {
-                    
-                    answerMessage = messages.get(i + 1);
-                    i++; // 답변 메시지는 이미 처리했으므로 인덱스 증가
-                }
-                
-                ChatResponseDTO responseDTO = ChatResponseDTO.builder()
-                        .questionId(message.getId())
-                        .answerId(answerMessage != null ? answerMessage.getId() : null)
-                        .question(message.getContent())
-                        .answer(answerMessage != null ? answerMessage.getContent() : "응답을 받지 못했습니다.")
-                        .timestamp(message.getCreatedAt())
-                        .build();
-                
-                chatResponses.add(responseDTO);
+
+        boolean paged = cursor != null || size != null;
+        int pageSize = Math.max(1, Math.min(size != null ? size : DEFAULT_HISTORY_PAGE_SIZE, MAX_HISTORY_PAGE_SIZE));
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<ChatHistoryRow> rows = chatMessageRepository.findHistoryPage(
+                lectureId, cursor != null ? cursor : Long.MAX_VALUE,
+                paged ? PageRequest.of(0, pageSize + 1) : Pageable.unpaged());
+
+        boolean hasNext = paged && rows.size() > pageSize;
+        List<ChatHistoryRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        List<ChatResponseDTO> chatResponses = new ArrayList<>(page.size());
+        for (int i = page.size() - 1; i >= 0; i--) {
+            ChatHistoryRow row = page.get(i);
+
+            String answer;
+            if (row.getAnswerId() == null) {
+                answer = "응답을 받지 못했습니다.";
+            } else if (row.getAnswerStatus() == ChatMessage.MessageStatus.PENDING) {
+                answer = "답변을 생성하고 있습니다.";
+            } else {
+                answer = row.getAnswer();
             }
+
+            chatResponses.add(ChatResponseDTO.builder()
+                    .questionId(row.getQuestionId())
+                    .answerId(row.getAnswerId())
+                    .question(row.getQuestion())
+                    .answer(answer)
+                    .timestamp(row.getCreatedAt())
+                    .build());
         }
-        
+
         return ChatHistoryDTO.builder()
-                .lectureId(lecture.getId())
-                .lectureTitle(lecture.getTitle())
+                .lectureId(lectureId)
+                .lectureTitle(lectureTitle)
                 .messages(chatResponses)
+                .nextCursor(hasNext ? page.get(page.size() - 1).getQuestionId() : null)
                 .build();
     }
     
     /**
      * AI 서버에 질문을 전송하고 응답을 받습니다.
+     * 같은 강의에 같은 질문/말투로 받은 답변이 캐시에 있으면 AI 서버를 호출하지 않고,
+     * 같은 질문이 이미 AI 서버에 전송 중이면 새로 보내지 않고 그 결과를 함께 받습니다.
+     * 통신 실패는 호출자에게 예외로 전달됩니다 (합류한 요청도 같은 예외를 받음).
      */
     private String requestAIResponse(String taskId, String question, String tone) {
-        try {
-            // AI 서버 URL 설정
-            String queryUrl = aiServiceUrl + "/query";
-            
-            // 요청 본문 구성
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("task_id", taskId);
-            requestBody.put("question", question);
-            
-            // 말투 설정 (선택적)
-            if (tone != null && !tone.isEmpty()) {
-                requestBody.put("tone", tone);
-                logger.info("말투 설정 적용: {}", tone);
-            } else {
-                requestBody.put("tone", "b");
-                logger.info("기본 말투 설정 적용: b");
-            }
-            
-            // 요청 로깅
-            logger.debug("AI 서버 요청: URL={}, task_id={}, question={}, tone={}", 
-                    queryUrl, taskId, question, tone);
-            
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            
-            // HTTP 요청 생성
-            HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(requestBody, headers);
-            
-            // AI 서버에 요청 전송 - String으로 응답 받기
-            ResponseEntity<String> response = restTemplate.postForEntity(queryUrl, requestEntity, String.class);
-            
-            // 응답 로깅
-            logger.debug("AI 서버 응답: status={}, body={}", response.getStatusCode(), response.getBody());
-            
-            // 응답이 JSON 형식인지 확인
-            if (response.getBody() != null) {
-                try {
-                    // JSON 파싱 시도
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    JsonNode rootNode = objectMapper.readTree(response.getBody());
-                    
-                    // 응답이 배열 형태인지 확인
-                    if (rootNode.isArray() && rootNode.size() > 0) {
-                        // 배열의 첫 번째 요소 가져오기
-                        JsonNode firstElement = rootNode.get(0);
-                        
-                        // data.answer 필드 추출 시도
-                        if (firstElement.has("data") && firstElement.get("data").has("answer")) {
-                            return firstElement.get("data").get("answer").asText();
-                        } else if (firstElement.has("answer")) {
-                            // 또는 직접 answer 필드가 있는 경우
-                            return firstElement.get("answer").asText();
-                        }
-                    } else {
-                        // 기존 로직 유지 (배열이 아닌 경우)
-                        if (rootNode.has("data") && rootNode.get("data").isObject() && 
-                            rootNode.get("data").has("answer")) {
-                            return rootNode.get("data").get("answer").asText();
-                        } else if (rootNode.has("data") && rootNode.get("data").isTextual()) {
-                            return rootNode.get("data").asText();
-                        } else if (rootNode.has("answer")) {
-                            return rootNode.get("answer").asText();
-                        } else if (rootNode.has("response")) {
-                            return rootNode.get("response").asText();
-                        }
-                    }
-                    
-                    // 응답 구조를 파악할 수 없는 경우 전체 응답 반환
-                    logger.warn("알 수 없는 응답 구조: {}", response.getBody());
-                    return "AI 서버에서 응답을 받았지만 형식이 올바르지 않습니다. 관리자에게 문의하세요.";
-                    
-                } catch (Exception e) {
-                    // JSON 파싱 실패 시 원본 응답 반환
-                    logger.warn("JSON 파싱 실패, 원본 응답 반환: {}", e.getMessage());
-                    return response.getBody();
-                }
+        AnswerCache.AnswerKey answerKey = answerKey(taskId, question, tone);
+        String cachedAnswer = answerCache.find(answerKey);
+        if (cachedAnswer != null) {
+            logger.debug("AI 답변 캐시 적중: task_id={}", taskId);
+            return cachedAnswer;
+        }
+
+        return queryFlights.execute(answerKey, () -> {
+            long cacheGeneration = answerCache.generation(answerKey.taskId());
+            AIQueryResponse response = queryAI(taskId, question, tone);
+            String answer = response != null ? response.resolveAnswer() : null;
+            if (answer != null) {
+                answerCache.put(answerKey, answer, cacheGeneration);
+                return answer;
             }
-            
-            return "AI 서버에서 응답을 받았지만 형식이 올바르지 않습니다.";
-        } catch (Exception e) {
-            logger.error("AI 응답 요청 실패: {}", e.getMessage(), e);
-            return "죄송합니다. AI 응답을 받아오는 데 실패했습니다: " + e.getMessage();
+            logger.warn("알 수 없는 응답 구조: {}", response);
+            return "AI 서버에서 응답을 받았지만 형식이 올바르지 않습니다. 관리자에게 문의하세요.";
+        });
+    }
+
+    /**
+     * 동일 질문 합치기(single-flight) 통계를 반환합니다.
+     */
+    public Map<String, Object> queryCoalescingStats() {
+        return queryFlights.stats();
+    }
+
+    private AnswerCache.AnswerKey answerKey(String taskId, String question, String tone) {
+        return AnswerCache.key(taskId, question, tone != null && !tone.isEmpty() ? tone : DEFAULT_TONE);
+    }
+
+    private AIQueryResponse queryAI(String taskId, String question, String tone) {
+        // 요청 본문 구성
+        Map<String, Object> requestBody = buildQueryRequest(taskId, question, tone);
+        
+        // 요청 로깅
+        logger.debug("AI 서버 요청: task_id={}, question={}, tone={}", taskId, question, tone);
+        
+        // AI 게이트웨이로 요청 전송 - 응답 스트림에서 바로 AIQueryResponse로 디코딩
+        return aiGatewayClient.query(requestBody);
+    }
+
+    /**
+     * AI 서버 질의 요청 본문을 구성합니다.
+     */
+    private Map<String, Object> buildQueryRequest(String taskId, String question, String tone) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("task_id", taskId);
+        requestBody.put("question", question);
+        
+        // 말투 설정 (선택적)
+        if (tone != null && !tone.isEmpty()) {
+            requestBody.put("tone", tone);
+            logger.info("말투 설정 적용: {}", tone);
+        } else {
+            requestBody.put("tone", DEFAULT_TONE);
+            logger.info("기본 말투 설정 적용: b");
         }
+        return requestBody;
+    }
+    
+    /**
+     * AI 서버의 스트리밍 질의 엔드포인트에서 토큰을 순서대로 받아옵니다.
+     */
+    private Flux<String> requestAIResponseStream(String taskId, String question, String tone) {
+        logger.debug("AI 서버 스트리밍 요청: task_id={}, question={}, tone={}", taskId, question, tone);
+
+        return aiGatewayClient.queryStream(buildQueryRequest(taskId, question, tone))
+                .map(event -> event.data() != null ? event.data() : "")
+                .filter(token -> !token.isEmpty());
     }
     
     /**
      * 강의 처리 완료 시 자동으로 환영 메시지를 생성합니다.
+     * 콜백 트랜잭션의 afterCommit에서 호출되므로 항상 새 트랜잭션에서 실행합니다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void createWelcomeMessage(Long lectureId) {
         Lecture lecture = lectureRepository.findById(lectureId)
                 .orElseThrow(() -> new RuntimeException("강의를 찾을 수 없습니다."));
         
-        // 이미 메시지가 있는지 확인
-        List<ChatMessage> existingMessages = chatMessageRepository.findByLectureIdOrderByIdAsc(lectureId);
-        
-        if (existingMessages.isEmpty()) {
+        // 이미 메시지가 있는지 확인 (메시지를 읽지 않고 존재 여부만 조회)
+        if (!chatMessageRepository.existsByLectureId(lectureId)) {
             // 환영 메시지 추가
             ChatMessage welcomeMessage = ChatMessage.builder()
                     .lecture(lecture)
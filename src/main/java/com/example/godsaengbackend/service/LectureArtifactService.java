@@ -0,0 +1,264 @@
+package com.example.godsaengbackend.service;
+
+import com.example.godsaengbackend.dto.TranscriptSegmentsDto;
+import com.example.godsaengbackend.entity.LectureArtifact;
+import com.example.godsaengbackend.entity.LectureArtifact.ArtifactType;
+import com.example.godsaengbackend.repository.LectureArtifactRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 강의 자료(AI 처리 결과물)의 압축 저장소
+ * 저장 시 gzip으로 압축하고, 조회 시 필요할 때만 압축을 풉니다.
+ */
+@Service
+public class LectureArtifactService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LectureArtifactService.class);
+
+    // 구간 조회 시 한 구간의 최대 글자 수 (긴 줄은 공백 기준으로 나눔)
+    static final int SEGMENT_MAX_CHARS = 1000;
+
+    private final LectureArtifactRepository lectureArtifactRepository;
+
+    public LectureArtifactService(LectureArtifactRepository lectureArtifactRepository) {
+        this.lectureArtifactRepository = lectureArtifactRepository;
+    }
+
+    /**
+     * 자료를 압축해 저장합니다. 이미 있으면 덮어쓰고, 값이 null이면 기존 자료를 삭제합니다.
+     */
+    @Transactional
+    public void storeAll(Long lectureId, Map<ArtifactType, String> artifacts) {
+        Map<ArtifactType, LectureArtifact> existing = new EnumMap<>(ArtifactType.class);
+        for (LectureArtifact artifact : lectureArtifactRepository.findByLectureId(lectureId)) {
+            existing.put(artifact.getType(), artifact);
+        }
+
+        artifacts.forEach((type, text) -> {
+            if (text == null) {
+                if (existing.containsKey(type)) {
+                    lectureArtifactRepository.delete(existing.get(type));
+                }
+                return;
+            }
+            byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+            byte[] compressed = compress(raw);
+
+            LectureArtifact artifact = existing.getOrDefault(type,
+                    LectureArtifact.builder().lectureId(lectureId).type(type).build());
+            artifact.setContent(compressed);
+            artifact.setOriginalSize(raw.length);
+            lectureArtifactRepository.save(artifact);
+
+            logger.debug("강의 자료 저장: lectureId={}, type={}, {} -> {} bytes",
+                    lectureId, type, raw.length, compressed.length);
+        });
+    }
+
+    /**
+     * 강의의 모든 자료를 압축 해제해 반환합니다. 저장되지 않은 자료는 맵에 포함되지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public Map<ArtifactType, String> loadAll(Long lectureId) {
+        Map<ArtifactType, String> result = new EnumMap<>(ArtifactType.class);
+        for (LectureArtifact artifact : lectureArtifactRepository.findByLectureId(lectureId)) {
+            result.put(artifact.getType(), decode(artifact));
+        }
+        return result;
+    }
+
+    /**
+     * 압축된 상태 그대로의 자료를 조회합니다 (gzip 응답 전송용).
+     */
+    @Transactional(readOnly = true)
+    public Optional<LectureArtifact> find(Long lectureId, ArtifactType type) {
+        return lectureArtifactRepository.findByLectureIdAndType(lectureId, type);
+    }
+
+    @Transactional
+    public void deleteAll(Long lectureId) {
+        lectureArtifactRepository.deleteAllByLectureId(lectureId);
+    }
+
+    /**
+     * 저장하지 않고 압축된 자료 객체만 만듭니다 (압축 저장소로 옮겨지기 전 데이터 응답용).
+     */
+    public LectureArtifact toArtifact(Long lectureId, ArtifactType type, String text) {
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        return LectureArtifact.builder()
+                .lectureId(lectureId)
+                .type(type)
+                .content(compress(raw))
+                .originalSize(raw.length)
+                .build();
+    }
+
+    public String decode(LectureArtifact artifact) {
+        return new String(decompress(artifact.getContent()), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 전체를 메모리에 풀지 않고 압축을 해제하며 읽는 스트림을 엽니다.
+     */
+    public InputStream openStream(LectureArtifact artifact) {
+        try {
+            return new GZIPInputStream(new ByteArrayInputStream(artifact.getContent()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("강의 자료 압축 해제 실패", e);
+        }
+    }
+
+    /**
+     * 압축을 풀면서 start 바이트까지 건너뛰고, 그 뒤 length 바이트만 읽는 스트림을 엽니다 (Range 요청용).
+     */
+    public InputStream openRange(LectureArtifact artifact, long start, long length) {
+        InputStream stream = openStream(artifact);
+        try {
+            stream.skipNBytes(start);
+        } catch (IOException e) {
+            throw new UncheckedIOException("강의 자료 압축 해제 실패", e);
+        }
+        return new BoundedInputStream(stream, length);
+    }
+
+    /**
+     * 자료를 줄 단위 구간으로 나눠 from번째부터 최대 count개를 반환합니다. SEGMENT_MAX_CHARS보다 긴 줄은 공백 위치에서 나눕니다.
+     * 요청한 구간까지만 압축을 풀며, 다음 구간이 있는지 확인할 한 구간을 더 만나면 읽기를 멈춥니다.
+     * 전체 구간 수(total)는 자료 끝까지 읽은 경우(마지막 페이지)에만 채웁니다.
+     */
+    public TranscriptSegmentsDto segments(LectureArtifact artifact, int from, int count) {
+        List<String> page = new ArrayList<>(count);
+        List<String> lineSegments = new ArrayList<>();
+        int index = 0;
+        boolean more = false;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(openStream(artifact), StandardCharsets.UTF_8))) {
+            String line;
+            lines:
+            while ((line = reader.readLine()) != null) {
+                lineSegments.clear();
+                split(line, lineSegments);
+                for (String segment : lineSegments) {
+                    if (index == from + count) {
+                        more = true;
+                        break lines;
+                    }
+                    if (index >= from) {
+                        page.add(segment);
+                    }
+                    index++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("강의 자료 압축 해제 실패", e);
+        }
+
+        return TranscriptSegmentsDto.builder()
+                .lectureId(artifact.getLectureId())
+                .from(from)
+                .total(more ? null : index)
+                .nextFrom(more ? from + count : null)
+                .segments(page)
+                .build();
+    }
+
+    private static void split(String line, List<String> segments) {
+        String rest = line.strip();
+        while (rest.length() > SEGMENT_MAX_CHARS) {
+            int cut = rest.lastIndexOf(' ', SEGMENT_MAX_CHARS);
+            if (cut <= 0) {
+                cut = Character.isHighSurrogate(rest.charAt(SEGMENT_MAX_CHARS - 1))
+                        ? SEGMENT_MAX_CHARS - 1 : SEGMENT_MAX_CHARS;
+            }
+            segments.add(rest.substring(0, cut).strip());
+            rest = rest.substring(cut).strip();
+        }
+        if (!rest.isEmpty()) {
+            segments.add(rest);
+        }
+    }
+
+    static byte[] compress(byte[] raw) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException("강의 자료 압축 실패", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    static byte[] decompress(byte[] compressed) {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("강의 자료 압축 해제 실패", e);
+        }
+    }
+
+    // 남은 바이트 수까지만 읽는 스트림
+    private static final class BoundedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        private BoundedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int value = super.read();
+            if (value >= 0) {
+                remaining--;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = super.read(buffer, offset, (int) Math.min(length, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+    }
+}
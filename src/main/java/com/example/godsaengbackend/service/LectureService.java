@@ -1,9 +1,16 @@
 package com.example.godsaengbackend.service;
 
+import com.example.godsaengbackend.cache.AnswerCache;
+import com.example.godsaengbackend.cache.LectureDetailCache;
 import com.example.godsaengbackend.dto.AICallbackDTO;
+import com.example.godsaengbackend.dto.AIQueueStatusDto;
 import com.example.godsaengbackend.dto.LectureDto;
+import com.example.godsaengbackend.entity.AICallbackReceipt;
 import com.example.godsaengbackend.entity.Lecture;
+import com.example.godsaengbackend.entity.LectureArtifact;
+import com.example.godsaengbackend.entity.LectureArtifact.ArtifactType;
 import com.example.godsaengbackend.entity.User;
+import com.example.godsaengbackend.repository.AICallbackReceiptRepository;
 import com.example.godsaengbackend.repository.LectureRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
@@ -11,10 +18,16 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationAdapter;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.EnumMap;
+import java.util.Map;
 
 @Service
 public class LectureService {
@@ -23,16 +36,32 @@ public class LectureService {
 
     private final LectureRepository lectureRepository;
     private final UserService userService;
-    private final AIService aiService;
-    private final RestTemplate restTemplate;
+    private final AIOutboxService aiOutboxService;
     private final ChatService chatService;
+    private final LectureDetailCache lectureDetailCache;
+    private final AnswerCache answerCache;
+    private final LectureArtifactService lectureArtifactService;
+    private final AICallbackReceiptRepository callbackReceiptRepository;
+    private final LectureStatusNotifier lectureStatusNotifier;
+    private final TransactionTemplate readOnlyTransaction;
 
-    public LectureService(LectureRepository lectureRepository, UserService userService, AIService aiService, RestTemplate restTemplate, ChatService chatService) {
+    public LectureService(LectureRepository lectureRepository, UserService userService, AIOutboxService aiOutboxService,
+                          ChatService chatService, LectureDetailCache lectureDetailCache,
+                          AnswerCache answerCache, LectureArtifactService lectureArtifactService,
+                          AICallbackReceiptRepository callbackReceiptRepository,
+                          LectureStatusNotifier lectureStatusNotifier,
+                          PlatformTransactionManager transactionManager) {
         this.lectureRepository = lectureRepository;
         this.userService = userService;
-        this.aiService = aiService;
-        this.restTemplate = restTemplate;
+        this.aiOutboxService = aiOutboxService;
         this.chatService = chatService;
+        this.lectureDetailCache = lectureDetailCache;
+        this.answerCache = answerCache;
+        this.lectureArtifactService = lectureArtifactService;
+        this.callbackReceiptRepository = callbackReceiptRepository;
+        this.lectureStatusNotifier = lectureStatusNotifier;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     @Transactional
@@ -52,30 +81,74 @@ public class LectureService {
 
         Lecture savedLecture = lectureRepository.save(lecture);
         
-        // 비동기로 AI 처리 시작 - remainingDays 직접 전달
-        aiService.processLecture(
-            savedLecture.getId(), 
-            savedLecture.getSourceType(), 
-            savedLecture.getVideoUrl(),
-            request.getRemainingDays()  // 직접 전달
-        );
+        // AI 처리 요청을 같은 트랜잭션에서 아웃박스에 기록 (커밋 후 디스패처가 전송) - remainingDays 직접 전달
+        // 업로드 강의는 업로드 파이프라인(LectureUploadService)이 파일과 함께 AI 서버에 전송하므로 제외
+        if (savedLecture.getSourceType() != Lecture.SourceType.UPLOAD) {
+            aiOutboxService.enqueueProcessLecture(savedLecture, request.getRemainingDays());
+        }
+        lectureStatusNotifier.publish(user.getId(), savedLecture.getId(), savedLecture.getStatus());
         
         return LectureDto.Response.fromEntity(savedLecture);
     }
 
     @Transactional(readOnly = true)
     public Page<LectureDto.Response> getLectures(String email, Pageable pageable) {
-        User user = userService.findByEmail(email);
-        Page<Lecture> lectures = lectureRepository.findByUser(user, pageable);
-        return lectures.map(LectureDto.Response::fromEntity);
+        return lectureRepository.findSummariesByUserEmail(email, pageable)
+                .map(LectureDto.Response::fromSummary);
     }
 
-    @Transactional(readOnly = true)
+    // 처리 완료된 강의는 캐시에서 바로 반환 (캐시 적중 시 트랜잭션/커넥션도 사용하지 않음)
     public LectureDto.DetailResponse getLecture(String email, Long lectureId) {
-        User user = userService.findByEmail(email);
-        Lecture lecture = lectureRepository.findByIdAndUser(lectureId, user)
-                .orElseThrow(() -> new RuntimeException("강의를 찾을 수 없습니다."));
-        return LectureDto.DetailResponse.fromEntity(lecture);
+        // 지연 로딩 컬럼(transcript 등)을 읽을 수 있도록 캐시 미스 시에만 트랜잭션 안에서 조회
+        return lectureDetailCache.get(lectureId, email, () -> readOnlyTransaction.execute(status -> {
+            User user = userService.findByEmail(email);
+            Lecture lecture = lectureRepository.findByIdAndUser(lectureId, user)
+                    .orElseThrow(() -> new RuntimeException("강의를 찾을 수 없습니다."));
+            return LectureDto.DetailResponse.fromEntity(lecture, lectureArtifactService.loadAll(lectureId));
+        }));
+    }
+
+    /**
+     * 강의 자료 하나를 압축된 상태로 조회합니다.
+     * 압축 저장소로 옮겨지기 전의 강의는 기존 컬럼 값을 압축해 반환합니다 (저장하지 않음).
+     */
+    public LectureArtifact getArtifact(String email, Long lectureId, ArtifactType type) {
+        return readOnlyTransaction.execute(status -> {
+            if (!lectureRepository.existsByIdAndUserEmail(lectureId, email)) {
+                throw new EntityNotFoundException("강의를 찾을 수 없거나 접근 권한이 없습니다.");
+            }
+            return lectureArtifactService.find(lectureId, type).orElseGet(() -> {
+                Lecture lecture = lectureRepository.findById(lectureId)
+                        .orElseThrow(() -> new EntityNotFoundException("강의를 찾을 수 없습니다."));
+                String legacy = switch (type) {
+                    case TRANSCRIPT -> lecture.getTranscript();
+                    case SUMMARY -> lecture.getSummary();
+                    case EXPECTED_QUESTIONS -> lecture.getExpectedQuestions();
+                    case STUDY_PLAN -> lecture.getStudyPlan();
+                };
+                if (legacy == null) {
+                    throw new EntityNotFoundException("강의 자료가 아직 생성되지 않았습니다.");
+                }
+                return lectureArtifactService.toArtifact(lectureId, type, legacy);
+            });
+        });
+    }
+
+    /**
+     * 사용자의 강의 상태 변경 알림(SSE) 연결을 엽니다.
+     */
+    public SseEmitter subscribeStatusEvents(String email) {
+        return lectureStatusNotifier.subscribe(userService.findByEmail(email).getId());
+    }
+
+    /**
+     * 강의의 AI 처리 대기 순번과 예상 시작/완료 시간을 조회합니다.
+     */
+    public AIQueueStatusDto getQueueStatus(String email, Long lectureId) {
+        if (!lectureRepository.existsByIdAndUserEmail(lectureId, email)) {
+            throw new EntityNotFoundException("강의를 찾을 수 없거나 접근 권한이 없습니다.");
+        }
+        return aiOutboxService.getQueueStatus(lectureId);
     }
 
     @Transactional
@@ -85,6 +158,8 @@ public class LectureService {
 
         lecture.setStatus(status);
         lectureRepository.save(lecture);
+        lectureDetailCache.evict(lectureId);
+        lectureStatusNotifier.publish(lecture.getUser().getId(), lectureId, status);
     }
 
     @Transactional
@@ -92,11 +167,16 @@ public class LectureService {
         Lecture lecture = lectureRepository.findById(lectureId)
                 .orElseThrow(() -> new RuntimeException("강의를 찾을 수 없습니다."));
 
-        lecture.setTranscript(transcript);
-        lecture.setSummary(summary);
-        lecture.setExpectedQuestions(expectedQuestions);
+        Map<ArtifactType, String> artifacts = new EnumMap<>(ArtifactType.class);
+        artifacts.put(ArtifactType.TRANSCRIPT, transcript);
+        artifacts.put(ArtifactType.SUMMARY, summary);
+        artifacts.put(ArtifactType.EXPECTED_QUESTIONS, expectedQuestions);
+        storeArtifacts(lecture, artifacts);
         lecture.setStatus(Lecture.LectureStatus.COMPLETED);
         lectureRepository.save(lecture);
+        lectureDetailCache.evict(lectureId);
+        answerCache.evictTask(lecture.getTaskId()); // 강의 내용이 바뀌었으므로 이전 답변 무효화
+        lectureStatusNotifier.publish(lecture.getUser().getId(), lectureId, Lecture.LectureStatus.COMPLETED);
     }
 
     @Transactional
@@ -107,32 +187,65 @@ public class LectureService {
         lecture.setEmbeddingSynced(true);
         lecture.setVectorDbId(vectorDbId);
         lectureRepository.save(lecture);
+        lectureDetailCache.evict(lectureId);
     }
 
     @Transactional
     public void updateLectureWithAIResult(AICallbackDTO callbackData) {
         logger.debug("AI 콜백 데이터 수신: lecture_id={}, task_id={}", 
                     callbackData.getLecture_id(), callbackData.getTask_id());
+
+        // 원장을 먼저 기록해 같은 콜백이 동시에 들어오면 무거운 갱신 전에 고유 제약으로 실패하도록 함
+        // (IDENTITY 키라 save 시점에 바로 INSERT되므로 flush 불필요, 배치 중 다른 UPDATE도 밀어내지 않음)
+        if (callbackData.getTask_id() != null && !callbackData.getTask_id().isBlank()) {
+            callbackReceiptRepository.save(AICallbackReceipt.builder()
+                    .lectureId(Long.parseLong(callbackData.getLecture_id()))
+                    .taskId(callbackData.getTask_id())
+                    .build());
+        }
         
         Lecture lecture = lectureRepository.findById(Long.parseLong(callbackData.getLecture_id()))
                 .orElseThrow(() -> new EntityNotFoundException("강의를 찾을 수 없습니다."));
 
         // AI 처리 결과로 강의 업데이트
         lecture.setStatus(Lecture.LectureStatus.COMPLETED);
-        lecture.setTranscript(callbackData.getTranscribed_text());
-        lecture.setSummary(callbackData.getSummary_text());
-        lecture.setExpectedQuestions(callbackData.getQuiz_text());
-        lecture.setStudyPlan(callbackData.getStudy_plan());
+        Map<ArtifactType, String> artifacts = new EnumMap<>(ArtifactType.class);
+        artifacts.put(ArtifactType.TRANSCRIPT, callbackData.getTranscribed_text());
+        artifacts.put(ArtifactType.SUMMARY, callbackData.getSummary_text());
+        artifacts.put(ArtifactType.EXPECTED_QUESTIONS, callbackData.getQuiz_text());
+        artifacts.put(ArtifactType.STUDY_PLAN, callbackData.getStudy_plan());
+        storeArtifacts(lecture, artifacts);
+        // 재처리된 강의의 이전 답변 무효화 (task_id를 재사용하는 경우도 포함)
+        answerCache.evictTask(lecture.getTaskId());
+        answerCache.evictTask(callbackData.getTask_id());
         lecture.setTaskId(callbackData.getTask_id()); // 채팅을 위한 task_id 저장
         
         logger.debug("강의 업데이트: id={}, task_id={}", lecture.getId(), lecture.getTaskId());
         
         lectureRepository.save(lecture);
+        lectureDetailCache.evict(lecture.getId());
+        // 커밋 이후 소유자의 알림 연결로 완료 전송 (클라이언트가 상세 조회를 반복하지 않도록)
+        lectureStatusNotifier.publish(lecture.getUser().getId(), lecture.getId(), Lecture.LectureStatus.COMPLETED);
         
         // 강의 처리 완료 시 환영 메시지 자동 생성
+        // 콜백 배치 트랜잭션에 참여하면 여기서 난 예외가 배치 전체를 rollback-only로 만드므로 커밋 이후 별도 트랜잭션에서
+        Long lectureId = lecture.getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    createWelcomeMessage(lectureId);
+                }
+            });
+        } else {
+            createWelcomeMessage(lectureId);
+        }
+    }
+
+    private void createWelcomeMessage(Long lectureId) {
         try {
-            chatService.createWelcomeMessage(lecture.getId());
-            logger.debug("환영 메시지 생성 완료: lectureId={}", lecture.getId());
+            chatService.createWelcomeMessage(lectureId);
+            logger.debug("환영 메시지 생성 완료: lectureId={}", lectureId);
         } catch (Exception e) {
             // 메시지 생성 실패해도 강의 처리는 완료된 것으로 간주
             logger.error("환영 메시지 생성 실패: {}", e.getMessage(), e);
@@ -144,9 +257,11 @@ public class LectureService {
         Lecture lecture = lectureRepository.findById(lectureId)
                 .orElseThrow(() -> new RuntimeException("강의를 찾을 수 없습니다."));
         
+        answerCache.evictTask(lecture.getTaskId()); // 새 파일로 다시 처리하므로 이전 답변 무효화
         lecture.setTaskId(taskId);
         lecture.setVideoUrl(taskId); // videoUrl에도 taskId 저장
         lectureRepository.save(lecture);
+        lectureDetailCache.evict(lectureId);
     }
 
     @Transactional
@@ -157,11 +272,27 @@ public class LectureService {
         
         // 1. 먼저 관련된 채팅 메시지 삭제
         chatService.deleteAllChatsByLectureId(lectureId);
+        lectureArtifactService.deleteAll(lectureId);
         
         // 2. 강의 삭제
         lectureRepository.delete(lecture);
+        lectureDetailCache.evict(lectureId);
+        answerCache.evictTask(lecture.getTaskId());
         
         logger.info("강의 삭제 완료: id={}, title={}", lecture.getId(), lecture.getTitle());
     }
 
+    // AI 결과물은 압축 저장소에 저장하고, lectures 테이블의 기존 컬럼은 비움
+    private void storeArtifacts(Lecture lecture, Map<ArtifactType, String> artifacts) {
+        lectureArtifactService.storeAll(lecture.getId(), artifacts);
+        for (ArtifactType type : artifacts.keySet()) {
+            switch (type) {
+                case TRANSCRIPT -> lecture.setTranscript(null);
+                case SUMMARY -> lecture.setSummary(null);
+                case EXPECTED_QUESTIONS -> lecture.setExpectedQuestions(null);
+                case STUDY_PLAN -> lecture.setStudyPlan(null);
+            }
+        }
+    }
+
 }
@@ -0,0 +1,271 @@
+package com.example.godsaengbackend.service;
+
+import com.example.godsaengbackend.dto.LectureStatusEventDto;
+import com.example.godsaengbackend.entity.Lecture;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 강의 상태 변경 알림 (SSE)
+ * 연결은 서블릿 비동기 응답(SseEmitter)으로 유지되므로 연결마다 스레드를 잡아 두지 않습니다.
+ * 상태 변경은 커밋 이후 연결별 전송 대기열에 넣고, 대기열이 있는 연결만 가상 스레드에서 차례로 씁니다.
+ * 느린 클라이언트는 자기 연결의 전송만 늦추며, 대기열이 max-pending을 넘거나 한 번의 쓰기가
+ * send-timeout보다 오래 걸리면 연결을 닫아 클라이언트가 다시 연결하고 목록을 새로 조회하도록 합니다.
+ * 변경을 반영한 인스턴스에 연결된 클라이언트에게만 전달됩니다.
+ */
+@Component
+public class LectureStatusNotifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(LectureStatusNotifier.class);
+    private static final String EVENT_NAME = "lecture-status";
+
+    private final ConcurrentHashMap<Long, List<Connection>> subscribers = new ConcurrentHashMap<>();
+    // 쓰기가 막혀도 OS 스레드를 붙잡지 않도록 연결별 전송은 가상 스레드에서
+    private final ExecutorService sender = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("lecture-events-", 0).factory());
+    private final long timeoutMillis;
+    private final long reconnectMillis;
+    private final int maxConnectionsPerUser;
+    private final int maxPendingPerConnection;
+    private final long sendTimeoutNanos;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder slowClosed = new LongAdder();
+
+    public LectureStatusNotifier(
+            @Value("${lecture.events.timeout:1800000}") long timeoutMillis,
+            @Value("${lecture.events.reconnect:3000}") long reconnectMillis,
+            @Value("${lecture.events.max-connections-per-user:5}") int maxConnectionsPerUser,
+            @Value("${lecture.events.max-pending-per-connection:32}") int maxPendingPerConnection,
+            @Value("${lecture.events.send-timeout:10000}") long sendTimeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+        this.reconnectMillis = reconnectMillis;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.maxPendingPerConnection = maxPendingPerConnection;
+        this.sendTimeoutNanos = Duration.ofMillis(sendTimeoutMillis).toNanos();
+    }
+
+    /**
+     * 사용자의 알림 연결을 등록합니다. 한도를 넘으면 가장 오래된 연결을 닫습니다.
+     */
+    public SseEmitter subscribe(Long userId) {
+        Connection connection = new Connection(userId, new SseEmitter(timeoutMillis));
+        List<Connection> connections = subscribers.compute(userId, (key, current) -> {
+            List<Connection> list = current != null ? current : new CopyOnWriteArrayList<>();
+            list.add(connection);
+            return list;
+        });
+        while (connections.size() > maxConnectionsPerUser) {
+            close(connections.remove(0));
+        }
+
+        SseEmitter emitter = connection.emitter;
+        emitter.onCompletion(() -> {
+            connection.closed.set(true);
+            remove(connection);
+        });
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> {
+            connection.closed.set(true);
+            remove(connection);
+        });
+
+        // 연결 직후 한 번 보내 응답 헤더를 내려보내고, 끊기면 reconnect 후 다시 연결하도록 안내
+        enqueue(connection, () -> SseEmitter.event().name("connected").reconnectTime(reconnectMillis).data("ok"), false);
+        return emitter;
+    }
+
+    /**
+     * 강의 상태 변경을 알립니다. 트랜잭션 안이면 커밋된 뒤에만 전송합니다.
+     */
+    public void publish(Long userId, Long lectureId, Lecture.LectureStatus status) {
+        LectureStatusEventDto event = LectureStatusEventDto.builder()
+                .lectureId(lectureId)
+                .status(status)
+                .changedAt(LocalDateTime.now())
+                .build();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(userId, event);
+                }
+            });
+        } else {
+            dispatch(userId, event);
+        }
+    }
+
+    /**
+     * 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주석 이벤트를 보내고, 쓰기가 send-timeout을 넘긴 연결을 닫습니다.
+     */
+    @Scheduled(fixedDelayString = "${lecture.events.heartbeat-interval:25000}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        subscribers.values().forEach(connections -> connections.forEach(connection -> {
+            long startedAt = connection.sendStartedAt;
+            if (startedAt != 0 && now - startedAt > sendTimeoutNanos) {
+                slowClosed.increment();
+                logger.debug("강의 상태 알림 쓰기 지연으로 연결 종료: userId={}", connection.userId);
+                close(connection);
+            } else {
+                enqueue(connection, () -> SseEmitter.event().comment("keepalive"), false);
+            }
+        }));
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("users", subscribers.size());
+        stats.put("connections", subscribers.values().stream().mapToInt(List::size).sum());
+        stats.put("published", published.sum());
+        stats.put("delivered", delivered.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("slowClosed", slowClosed.sum());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(connections -> connections.forEach(connection -> connection.emitter.complete()));
+        sender.shutdownNow();
+    }
+
+    private void dispatch(Long userId, LectureStatusEventDto event) {
+        published.increment();
+        List<Connection> connections = subscribers.get(userId);
+        if (connections == null) {
+            return;
+        }
+        for (Connection connection : connections) {
+            enqueue(connection, () -> SseEmitter.event()
+                    .name(EVENT_NAME)
+                    .id(event.getLectureId() + ":" + event.getStatus())
+                    .data(event), true);
+        }
+    }
+
+    // 이벤트 빌더는 한 번만 build할 수 있으므로 연결마다 새로 만듦
+    private void enqueue(Connection connection, Supplier<SseEmitter.SseEventBuilder> event, boolean statusEvent) {
+        if (connection.closed.get()) {
+            return;
+        }
+        if (connection.pendingCount.incrementAndGet() > maxPendingPerConnection) {
+            // 클라이언트가 읽는 속도보다 이벤트가 빨리 쌓임 - 다시 연결해 목록을 새로 조회하도록 닫음
+            slowClosed.increment();
+            logger.debug("강의 상태 알림 대기열 초과로 연결 종료: userId={}", connection.userId);
+            close(connection);
+            return;
+        }
+        connection.pending.add(new PendingEvent(event, statusEvent));
+        if (connection.draining.compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> drain(connection));
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+                connection.draining.set(false);
+            }
+        }
+    }
+
+    // 연결마다 전송 스레드는 하나만 돌아 이벤트 순서가 유지됨
+    private void drain(Connection connection) {
+        do {
+            PendingEvent next;
+            while ((next = connection.pending.poll()) != null) {
+                connection.pendingCount.decrementAndGet();
+                if (!send(connection, next.event())) {
+                    return;
+                }
+                if (next.statusEvent()) {
+                    delivered.increment();
+                }
+            }
+            connection.draining.set(false);
+            // 플래그를 내린 사이에 들어온 이벤트는 다시 가져가서 전송
+        } while (!connection.pending.isEmpty() && connection.draining.compareAndSet(false, true));
+    }
+
+    private boolean send(Connection connection, Supplier<SseEmitter.SseEventBuilder> event) {
+        connection.sendStartedAt = System.nanoTime();
+        try {
+            connection.emitter.send(event.get());
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 이미 완료된 연결
+            logger.debug("강의 상태 알림 연결 정리: userId={}, error={}", connection.userId, e.getMessage());
+            close(connection);
+            return false;
+        } finally {
+            connection.sendStartedAt = 0;
+        }
+    }
+
+    private void close(Connection connection) {
+        if (connection.closed.compareAndSet(false, true)) {
+            dropped.increment();
+            connection.pending.clear();
+            remove(connection);
+            // complete는 진행 중인 쓰기와 같은 잠금을 쓰므로, 막힌 연결을 닫느라 호출한 스레드가 기다리지 않도록 전송 스레드에서
+            try {
+                sender.execute(connection.emitter::complete);
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+            }
+        }
+    }
+
+    private void remove(Connection connection) {
+        subscribers.computeIfPresent(connection.userId, (key, connections) -> {
+            connections.remove(connection);
+            return connections.isEmpty() ? null : connections;
+        });
+    }
+
+    private record PendingEvent(Supplier<SseEmitter.SseEventBuilder> event, boolean statusEvent) {
+    }
+
+    // 알림 연결 하나와 그 연결의 전송 대기열
+    private static final class Connection {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final Queue<PendingEvent> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // 진행 중인 쓰기의 시작 시각(nanoTime), 쓰고 있지 않으면 0
+        private volatile long sendStartedAt;
+
+        private Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+    }
+}
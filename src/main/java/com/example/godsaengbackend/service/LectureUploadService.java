@@ -0,0 +1,432 @@
+package com.example.godsaengbackend.service;
+
+import com.example.godsaengbackend.dto.AIInFlightJob;
+import com.example.godsaengbackend.dto.AIJobCandidate;
+import com.example.godsaengbackend.dto.LectureDto;
+import com.example.godsaengbackend.dto.UploadProgressDto;
+import com.example.godsaengbackend.dto.UploadProgressDto.UploadState;
+import com.example.godsaengbackend.entity.Lecture;
+import com.example.godsaengbackend.entity.LectureUploadJob;
+import com.example.godsaengbackend.entity.User;
+import com.example.godsaengbackend.repository.LectureRepository;
+import com.example.godsaengbackend.repository.LectureUploadJobRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 강의 파일 업로드 수집 파이프라인
+ * 업로드 파일을 로컬에 임시 저장(spool)하고 전송 작업을 DB에 기록한 뒤 바로 응답합니다.
+ * AI 서버 전송은 처리 요청과 같은 AIJobScheduler 대기열/슬롯을 거쳐 AIJobDispatcher가 내보내며,
+ * 실패하면 작업 행의 다음 시도 시각까지 대기열에서 빠져 실행기 워커가 백오프 동안 잠들지 않습니다.
+ * 재시작 중 끊긴 전송은 기동 후 같은 멱등 키로 이어서 보냅니다.
+ */
+@Service
+public class LectureUploadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LectureUploadService.class);
+
+    private static final List<UploadState> DUE_STATES = List.of(UploadState.SPOOLED, UploadState.RETRY_WAIT);
+    private static final List<UploadState> UNFINISHED_STATES =
+            List.of(UploadState.SPOOLED, UploadState.UPLOADING, UploadState.RETRY_WAIT);
+    private static final List<UploadState> FINISHED_STATES =
+            List.of(UploadState.ACKNOWLEDGED, UploadState.FAILED);
+
+    private final LectureService lectureService;
+    private final AIService aiService;
+    private final UserService userService;
+    private final LectureRepository lectureRepository;
+    private final LectureUploadJobRepository uploadJobRepository;
+    private final AIJobScheduler jobScheduler;
+    private final TaskExecutor taskExecutor;
+    private final TaskScheduler taskScheduler;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Path spoolDir;
+    private final String node;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration progressRetention;
+
+    public LectureUploadService(
+            LectureService lectureService,
+            AIService aiService,
+            UserService userService,
+            LectureRepository lectureRepository,
+            LectureUploadJobRepository uploadJobRepository,
+            AIJobScheduler jobScheduler,
+            @Qualifier("aiTaskExecutor") TaskExecutor taskExecutor,
+            TaskScheduler taskScheduler,
+            PlatformTransactionManager transactionManager,
+            @Value("${lecture.upload.spool-dir}") String spoolDir,
+            @Value("${lecture.upload.node-id}") String node,
+            @Value("${lecture.upload.max-attempts:3}") int maxAttempts,
+            @Value("${lecture.upload.initial-backoff:2000}") long initialBackoff,
+            @Value("${lecture.upload.progress-retention:3600000}") long progressRetention) {
+        this.lectureService = lectureService;
+        this.aiService = aiService;
+        this.userService = userService;
+        this.lectureRepository = lectureRepository;
+        this.uploadJobRepository = uploadJobRepository;
+        this.jobScheduler = jobScheduler;
+        this.taskExecutor = taskExecutor;
+        this.taskScheduler = taskScheduler;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.spoolDir = Paths.get(spoolDir);
+        this.node = node;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofMillis(initialBackoff);
+        this.progressRetention = Duration.ofMillis(progressRetention);
+
+        try {
+            Files.createDirectories(this.spoolDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("업로드 임시 저장 디렉터리를 만들 수 없습니다: " + spoolDir, e);
+        }
+    }
+
+    /**
+     * 업로드 파일을 로컬에 저장하고 강의와 전송 작업을 생성합니다. AI 서버 전송은 스케줄러 대기열에서 차례가 되면 시작됩니다.
+     */
+    public LectureDto.Response accept(String email, MultipartFile file, LectureDto.CreateRequest request) {
+        // 1. multipart 임시 파일을 스풀 디렉터리로 이동 (가능하면 복사 없이 rename)
+        Path spooledFile = spoolDir.resolve(UUID.randomUUID() + ".upload");
+        try {
+            file.transferTo(spooledFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException("업로드 파일 저장 실패", e);
+        }
+
+        // 2. 강의와 전송 작업을 한 트랜잭션에서 생성 (작업 행이 있어야 재시작 후에도 이어서 전송)
+        LectureDto.Response lectureResponse;
+        try {
+            lectureResponse = transactionTemplate.execute(status -> {
+                LectureDto.Response response = lectureService.createLecture(email, request);
+                uploadJobRepository.save(LectureUploadJob.builder()
+                        .lectureId(response.getId())
+                        .node(node)
+                        .spoolPath(spooledFile.toString())
+                        .filename(file.getOriginalFilename())
+                        .sizeBytes(file.getSize())
+                        .idempotencyKey(UUID.randomUUID().toString())
+                        .state(UploadState.SPOOLED)
+                        .attempts(0)
+                        .nextAttemptAt(LocalDateTime.now())
+                        .build());
+                return response;
+            });
+        } catch (RuntimeException e) {
+            deleteQuietly(spooledFile);
+            throw e;
+        }
+
+        Long lectureId = lectureResponse.getId();
+        logger.info("강의 파일 업로드 접수: lectureId={}, size={}", lectureId, file.getSize());
+        return lectureResponse;
+    }
+
+    /**
+     * 업로드 진행 상태를 조회합니다.
+     * 전송 기록이 정리된 뒤에는 강의 상태로부터 판단합니다.
+     */
+    public UploadProgressDto getProgress(String email, Long lectureId) {
+        User user = userService.findByEmail(email);
+        Lecture lecture = lectureRepository.findByIdAndUser(lectureId, user)
+                .orElseThrow(() -> new EntityNotFoundException("강의를 찾을 수 없거나 접근 권한이 없습니다."));
+
+        return uploadJobRepository.findByLectureId(lectureId)
+                .map(this::toProgress)
+                .orElseGet(() -> {
+                    UploadState state;
+                    if (lecture.getTaskId() != null) {
+                        state = UploadState.ACKNOWLEDGED;
+                    } else if (lecture.getStatus() == Lecture.LectureStatus.FAILED) {
+                        state = UploadState.FAILED;
+                    } else {
+                        state = UploadState.SPOOLED;
+                    }
+                    return UploadProgressDto.builder()
+                            .lectureId(lectureId)
+                            .state(state)
+                            .maxAttempts(maxAttempts)
+                            .taskId(lecture.getTaskId())
+                            .updatedAt(lecture.getUpdatedAt())
+                            .build();
+                });
+    }
+
+    /**
+     * 이 인스턴스의 스풀 파일 중 전송할 차례가 된 작업을 스케줄러 대기열 후보로 조회합니다 (최대 limit건).
+     */
+    public List<AIJobCandidate> findDueCandidates(LocalDateTime now, int limit) {
+        return uploadJobRepository.findDueCandidates(node, DUE_STATES, now, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 스케줄러가 내보낸 업로드 작업을 점유해 AI 작업 실행기에서 전송하고, 실제로 전송을 시작한 강의 ID를 반환합니다.
+     * 실행기가 가득 차 넘기지 못한 작업은 점유를 풀어 다음 주기에 다시 고르도록 합니다 (슬롯은 호출한 쪽이 반납).
+     */
+    public Set<Long> send(List<AIJobScheduler.Job> jobs) {
+        if (jobs.isEmpty()) {
+            return Set.of();
+        }
+        List<Long> ids = jobs.stream().map(AIJobScheduler.Job::sourceId).toList();
+        List<LectureUploadJob> claimed = transactionTemplate.execute(status -> {
+            List<LectureUploadJob> due = uploadJobRepository.findDueByIdsForUpdate(ids, node, DUE_STATES, LocalDateTime.now());
+            for (LectureUploadJob job : due) {
+                job.setState(UploadState.UPLOADING);
+                job.setAttempts(job.getAttempts() + 1);
+                job.setNextAttemptAt(null);
+            }
+            return due;
+        });
+
+        Set<Long> sending = new HashSet<>();
+        for (LectureUploadJob job : claimed) {
+            Long lectureId = job.getLectureId();
+            try {
+                taskExecutor.execute(() -> transfer(lectureId));
+                sending.add(lectureId);
+            } catch (TaskRejectedException e) {
+                transactionTemplate.executeWithoutResult(status -> unclaim(lectureId));
+            }
+        }
+        return sending;
+    }
+
+    /**
+     * 기동 시 이 인스턴스가 접수했지만 끝내지 못한 전송을 이어서 보냅니다.
+     * 전송 중(UPLOADING)이던 작업은 대기열로 되돌려 같은 멱등 키로 다시 보내므로 AI 서버에서 중복 처리되지 않고,
+     * 스풀 파일이 사라진 작업은 실패 처리합니다. 전송을 마치고 AI 서버가 처리 중인 업로드는 처리 중 슬롯으로 복원합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinished() {
+        LocalDateTime now = LocalDateTime.now();
+        List<AIInFlightJob> acknowledged = uploadJobRepository.findAcknowledgedSince(node, UploadState.ACKNOWLEDGED,
+                Lecture.LectureStatus.PROCESSING, now.minus(jobScheduler.getInFlightTimeout()));
+        jobScheduler.restore(acknowledged);
+
+        List<LectureUploadJob> jobs = uploadJobRepository.findByNodeAndStateIn(node, UNFINISHED_STATES);
+        for (LectureUploadJob job : jobs) {
+            Long lectureId = job.getLectureId();
+            if (job.getTaskId() != null) {
+                // 전송은 끝났고 강의에 task_id를 반영하지 못한 채 재시작된 경우 - 다시 보내지 않고 반영만 재시도
+                schedule(() -> record(lectureId, job.getTaskId(), 1), Duration.ZERO);
+            } else if (!Files.exists(Paths.get(job.getSpoolPath()))) {
+                fail(lectureId, "재시작 후 업로드 임시 파일을 찾을 수 없습니다.");
+            } else if (job.getState() == UploadState.UPLOADING) {
+                job.setState(UploadState.RETRY_WAIT);
+                job.setLastError("재시작으로 전송이 중단되었습니다.");
+                job.setNextAttemptAt(now);
+                uploadJobRepository.save(job);
+            }
+        }
+        if (!jobs.isEmpty() || !acknowledged.isEmpty()) {
+            logger.info("업로드 전송 재개: 미완료 {}건, 처리 중 복원 {}건 (node={})", jobs.size(), acknowledged.size(), node);
+        }
+    }
+
+    /**
+     * 끝난 지 오래된 전송 기록을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${lecture.upload.purge-interval:600000}")
+    public void purgeFinished() {
+        int deleted = transactionTemplate.execute(status -> uploadJobRepository.deleteFinishedBefore(
+                FINISHED_STATES, LocalDateTime.now().minus(progressRetention)));
+        if (deleted > 0) {
+            logger.debug("완료된 업로드 전송 기록 정리: {}건", deleted);
+        }
+    }
+
+    /**
+     * 점유한 업로드를 한 번 전송합니다. 실패하면 슬롯을 반납하고 백오프 뒤의 다음 시도 시각을 기록한 뒤 바로 반환하며,
+     * 그 시각이 지나면 스케줄러 대기열에 다시 들어갑니다.
+     */
+    private void transfer(Long lectureId) {
+        LectureUploadJob job = uploadJobRepository.findByLectureId(lectureId).orElse(null);
+        if (job == null || job.getState() != UploadState.UPLOADING) {
+            jobScheduler.cancel(lectureId);
+            return;
+        }
+        Path spooledFile = Paths.get(job.getSpoolPath());
+
+        // 전송 대기 중에 강의가 삭제된 경우
+        if (!lectureRepository.existsById(lectureId)) {
+            jobScheduler.cancel(lectureId);
+            uploadJobRepository.delete(job);
+            deleteQuietly(spooledFile);
+            return;
+        }
+        if (!Files.exists(spooledFile)) {
+            fail(lectureId, "업로드 임시 파일을 찾을 수 없습니다.");
+            return;
+        }
+
+        String filename = job.getFilename();
+        FileSystemResource resource = new FileSystemResource(spooledFile) {
+            @Override
+            public String getFilename() {
+                return filename;
+            }
+        };
+
+        String taskId;
+        try {
+            taskId = aiService.uploadFileToAIService(resource, lectureId, job.getIdempotencyKey());
+        } catch (RuntimeException e) {
+            String error = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+            logger.warn("강의 파일 AI 서버 전송 실패: lectureId={}, attempt={}/{}, error={}",
+                    lectureId, job.getAttempts(), maxAttempts, error);
+            if (job.getAttempts() >= maxAttempts) {
+                fail(lectureId, error);
+                return;
+            }
+
+            // 재시도 대기 중에는 다른 작업이 슬롯을 쓰도록 반납
+            jobScheduler.cancel(lectureId);
+            job.setState(UploadState.RETRY_WAIT);
+            job.setLastError(error);
+            job.setNextAttemptAt(LocalDateTime.now().plus(backoff(job.getAttempts())));
+            uploadJobRepository.save(job);
+            return;
+        }
+
+        logger.info("강의 파일 AI 서버 전송 완료: lectureId={}, taskId={}, attempts={}",
+                lectureId, taskId, job.getAttempts());
+        record(lectureId, taskId, 1);
+    }
+
+    /**
+     * AI 서버가 발급한 task_id를 강의에 반영합니다.
+     * 업로드는 이미 성공했으므로 DB 반영이 실패하면 파일을 다시 보내지 않고 반영만 재시도합니다.
+     * 재시도 한도를 넘기면 작업을 그대로 두고, 재시작 후 같은 멱등 키로 이어서 처리합니다.
+     */
+    private void record(Long lectureId, String taskId, int attempt) {
+        LectureUploadJob job;
+        try {
+            // 강의 반영보다 먼저 작업에 기록해 두어 이후 재시작해도 다시 업로드하지 않게 함
+            job = uploadJobRepository.findByLectureId(lectureId).orElse(null);
+            if (job == null) {
+                return;
+            }
+            if (job.getTaskId() == null) {
+                job.setTaskId(taskId);
+                job = uploadJobRepository.save(job);
+            }
+            LectureUploadJob recorded = job;
+            transactionTemplate.executeWithoutResult(status -> {
+                lectureService.updateLectureTaskId(lectureId, taskId);
+                recorded.setState(UploadState.ACKNOWLEDGED);
+                recorded.setLastError(null);
+                recorded.setNextAttemptAt(null);
+                uploadJobRepository.save(recorded);
+            });
+        } catch (RuntimeException e) {
+            if (attempt >= maxAttempts) {
+                logger.error("업로드 task_id 반영 실패 (재시작 후 재개): lectureId={}, taskId={}, error={}",
+                        lectureId, taskId, e.getMessage());
+                return;
+            }
+            logger.warn("업로드 task_id 반영 실패, 재시도 예정: lectureId={}, attempt={}/{}, error={}",
+                    lectureId, attempt, maxAttempts, e.getMessage());
+            schedule(() -> record(lectureId, taskId, attempt + 1), backoff(attempt));
+            return;
+        }
+        deleteQuietly(Paths.get(job.getSpoolPath()));
+    }
+
+    /**
+     * delay 뒤에 task_id 반영을 실행기에 넘깁니다. 그때 실행기가 가득 차 있으면 같은 간격으로 다시 예약합니다.
+     * 예약하지 못하면(종료 중) 작업 행이 그대로 남아 재시작 후 재개됩니다.
+     */
+    private void schedule(Runnable task, Duration delay) {
+        try {
+            taskScheduler.schedule(() -> {
+                try {
+                    taskExecutor.execute(task);
+                } catch (TaskRejectedException e) {
+                    schedule(task, delay.isZero() ? initialBackoff : delay);
+                }
+            }, Instant.now().plus(delay));
+        } catch (TaskRejectedException e) {
+            logger.warn("업로드 전송을 예약할 수 없습니다 (재시작 후 재개): {}", e.getMessage());
+        }
+    }
+
+    // 실행기가 가득 차 전송을 넘기지 못한 작업을 점유 전 상태로 되돌림 (시도 횟수에서 제외)
+    private void unclaim(Long lectureId) {
+        uploadJobRepository.findByLectureId(lectureId).ifPresent(job -> {
+            job.setAttempts(job.getAttempts() - 1);
+            job.setState(job.getAttempts() == 0 ? UploadState.SPOOLED : UploadState.RETRY_WAIT);
+            job.setNextAttemptAt(LocalDateTime.now());
+            logger.debug("AI 작업 실행기 포화로 업로드 전송 보류: lectureId={}", lectureId);
+        });
+    }
+
+    private void fail(Long lectureId, String error) {
+        jobScheduler.cancel(lectureId);
+        transactionTemplate.executeWithoutResult(status -> {
+            uploadJobRepository.findByLectureId(lectureId).ifPresent(job -> {
+                job.setState(UploadState.FAILED);
+                job.setLastError(error);
+                job.setNextAttemptAt(null);
+                uploadJobRepository.save(job);
+                deleteQuietly(Paths.get(job.getSpoolPath()));
+            });
+            lectureService.updateLectureStatus(lectureId, Lecture.LectureStatus.FAILED);
+        });
+    }
+
+    private Duration backoff(int attempt) {
+        return initialBackoff.multipliedBy(1L << Math.min(attempt - 1, 10));
+    }
+
+    private UploadProgressDto toProgress(LectureUploadJob job) {
+        return UploadProgressDto.builder()
+                .lectureId(job.getLectureId())
+                .state(job.getState())
+                .attempts(job.getAttempts())
+                .maxAttempts(maxAttempts)
+                .sizeBytes(job.getSizeBytes())
+                .taskId(job.getTaskId())
+                .lastError(job.getLastError())
+                .nextAttemptAt(job.getState() == UploadState.RETRY_WAIT ? job.getNextAttemptAt() : null)
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("업로드 임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.godsaengbackend.service;
 
+import com.example.godsaengbackend.cache.UserDetailsCache;
+import com.example.godsaengbackend.cache.UserTierCache;
 import com.example.godsaengbackend.dto.UserDto;
 import com.example.godsaengbackend.entity.User;
 import com.example.godsaengbackend.repository.UserRepository;
@@ -18,10 +20,15 @@ public class UserService implements UserDetailsService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserDetailsCache userDetailsCache;
+    private final UserTierCache userTierCache;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, UserDetailsCache userDetailsCache,
+                       UserTierCache userTierCache) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userDetailsCache = userDetailsCache;
+        this.userTierCache = userTierCache;
     }
 
     @Override
@@ -76,6 +83,9 @@ public class UserService implements UserDetailsService {
         User user = findByEmail(email);
         user.setIsGodMode(isGodMode);
         User updatedUser = userRepository.save(user);
+        userDetailsCache.evict(email);
+        // 갓모드 여부는 사용자 등급(처리율 한도, AI 작업 우선순위)에도 쓰이므로 함께 무효화
+        userTierCache.evict(email);
         return UserDto.UserResponse.fromEntity(updatedUser);
     }
 }
@@ -0,0 +1,164 @@
+package com.example.godsaengbackend.client;
+
+import com.example.godsaengbackend.config.AIGatewayConfig;
+import com.example.godsaengbackend.entity.Lecture;
+import com.example.godsaengbackend.repository.LectureRepository;
+import com.example.godsaengbackend.service.AIService;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.catalina.core.ApplicationPart;
+import org.apache.tomcat.util.http.fileupload.FileItem;
+import org.apache.tomcat.util.http.fileupload.disk.DiskFileItemFactory;
+import org.apache.tomcat.util.http.fileupload.util.FileItemHeadersImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.support.StandardMultipartHttpServletRequest;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 여러 개의 100MB 업로드 파일을 컨트롤러가 받는 것과 같은 형태(file-size-threshold=0으로 디스크에 저장된
+ * multipart 파트의 StandardMultipartFile)로 AIService에 넘겨, 디스크 파일에서 읽어 끝까지 전송되는지 검증합니다.
+ * 파일 두 개보다 작은 힙(heapBoundTest 태스크, -Xmx160m)에서 실행하므로, 전송 중 파일을 힙에 올리면
+ * GC 동작과 무관하게 OutOfMemoryError로 실패합니다.
+ */
+@Tag("heap-bound")
+class AIGatewayClientUploadTest {
+
+    private static final int UPLOADS = 4;
+    private static final long FILE_SIZE = 100L * 1024 * 1024;
+    private static final Long LECTURE_ID = 1L;
+
+    @TempDir
+    Path tempDir;
+
+    private HttpServer aiServer;
+    private ConnectionProvider connectionProvider;
+    private AIService aiService;
+    private final Queue<Long> receivedBodySizes = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 요청 본문을 읽어서 크기만 기록하는 AI 서버
+        aiServer = HttpServer.create(new InetSocketAddress("localhost", 0), UPLOADS);
+        aiServer.setExecutor(Executors.newFixedThreadPool(UPLOADS));
+        aiServer.createContext("/process", exchange -> {
+            try (InputStream in = exchange.getRequestBody()) {
+                receivedBodySizes.add(in.transferTo(OutputStream.nullOutputStream()));
+            }
+            byte[] body = "{\"task_id\":\"task-upload\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        aiServer.start();
+
+        AIGatewayConfig config = new AIGatewayConfig();
+        AIGatewayPoolMetrics poolMetrics = config.aiGatewayPoolMetrics();
+        connectionProvider = config.aiConnectionProvider(poolMetrics, 10, 50, 5000, 30000);
+        WebClient aiWebClient = config.aiWebClient(WebClient.builder(), connectionProvider,
+                "http://localhost:" + aiServer.getAddress().getPort(), 3000, 2 * 1024 * 1024);
+        AIGatewayClient aiGatewayClient = new AIGatewayClient(aiWebClient, poolMetrics, new SimpleMeterRegistry(),
+                config.aiProcessGuard(50, 10, 20, 30000, 3, 2, 0.9, 10, 20, 5000),
+                config.aiQueryGuard(50, 10, 20, 30000, 3, 2, 0.9, 20, 50, 30000), "/query/stream",
+                120000, UPLOADS, 5000, 10000, 20, 2000, 60000, 50, 1000);
+
+        LectureRepository lectureRepository = mock(LectureRepository.class);
+        when(lectureRepository.findById(LECTURE_ID))
+                .thenReturn(Optional.of(Lecture.builder().id(LECTURE_ID).build()));
+        aiService = new AIService(aiGatewayClient, lectureRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionProvider.dispose();
+        aiServer.stop(0);
+    }
+
+    @Test
+    void parallelLargeUploadsStreamFromDiskParts() throws Exception {
+        assertThat(Runtime.getRuntime().maxMemory())
+                .as("작은 힙에서 실행해야 함: ./gradlew heapBoundTest")
+                .isLessThan(2 * FILE_SIZE);
+
+        List<FileItem> items = new ArrayList<>();
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < UPLOADS; i++) {
+            FileItem item = diskPart("lecture-" + i + ".mp4");
+            items.add(item);
+            files.add(multipartFile(item));
+        }
+        for (FileItem item : items) {
+            assertThat(item.isInMemory()).as("file-size-threshold=0이면 파트는 디스크에 저장됨").isFalse();
+        }
+
+        ExecutorService uploaders = Executors.newFixedThreadPool(UPLOADS);
+        try {
+            List<Future<String>> taskIds = new ArrayList<>();
+            for (MultipartFile file : files) {
+                taskIds.add(uploaders.submit(() -> aiService.uploadFileToAIService(file, LECTURE_ID)));
+            }
+            for (Future<String> taskId : taskIds) {
+                assertThat(taskId.get(120, TimeUnit.SECONDS)).isEqualTo("task-upload");
+            }
+        } finally {
+            uploaders.shutdownNow();
+        }
+
+        // multipart 헤더/경계를 포함한 요청 본문이 파일 크기 이상이면 파일 전체가 전송된 것
+        assertThat(receivedBodySizes).hasSize(UPLOADS).allSatisfy(size -> assertThat(size).isGreaterThan(FILE_SIZE));
+    }
+
+    // 서블릿 컨테이너가 file-size-threshold=0으로 받은 업로드와 같은 디스크 파트
+    private FileItem diskPart(String filename) throws IOException {
+        FileItem item = new DiskFileItemFactory(0, tempDir.toFile())
+                .createItem("file", "video/mp4", false, filename);
+        FileItemHeadersImpl headers = new FileItemHeadersImpl();
+        headers.addHeader("Content-Disposition", "form-data; name=\"file\"; filename=\"" + filename + "\"");
+        headers.addHeader("Content-Type", "video/mp4");
+        item.setHeaders(headers);
+
+        byte[] chunk = new byte[1024 * 1024];
+        try (OutputStream out = item.getOutputStream()) {
+            for (long written = 0; written < FILE_SIZE; written += chunk.length) {
+                out.write(chunk);
+            }
+        }
+        return item;
+    }
+
+    // 컨트롤러의 @RequestPart MultipartFile과 같은 StandardMultipartFile
+    private MultipartFile multipartFile(FileItem item) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/lectures/upload");
+        request.setContentType("multipart/form-data; boundary=test");
+        request.addPart(new ApplicationPart(item, tempDir.toFile()));
+        return new StandardMultipartHttpServletRequest(request).getFile("file");
+    }
+}
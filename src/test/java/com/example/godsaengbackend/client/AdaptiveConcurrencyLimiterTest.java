@@ -0,0 +1,85 @@
+package com.example.godsaengbackend.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 실패/느린 응답에 따른 한도 감소(AIMD)와 한도 초과 거절을 검증합니다.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final Duration LATENCY_THRESHOLD = Duration.ofSeconds(1);
+
+    private final AdaptiveConcurrencyLimiter limiter =
+            new AdaptiveConcurrencyLimiter("test", 10, 2, 20, 0.5, LATENCY_THRESHOLD);
+
+    @Test
+    void rejectsCallsOverLimit() {
+        acquire(10);
+        assertThatThrownBy(limiter::acquire).isInstanceOf(AIServiceUnavailableException.class);
+        assertThat(limiter.stats()).containsEntry("inFlight", 10).containsEntry("rejected", 1L);
+    }
+
+    @Test
+    void droppedCallShrinksLimit() {
+        limiter.acquire();
+        limiter.onDropped();
+        assertThat(limiter.stats()).containsEntry("limit", 5);
+
+        acquire(5);
+        assertThatThrownBy(limiter::acquire).isInstanceOf(AIServiceUnavailableException.class);
+    }
+
+    @Test
+    void slowSuccessCountsAsDrop() {
+        limiter.acquire();
+        limiter.onSuccess(LATENCY_THRESHOLD.toNanos() + 1);
+        assertThat(limiter.stats()).containsEntry("limit", 5).containsEntry("dropped", 1L).containsEntry("inFlight", 0);
+    }
+
+    @Test
+    void limitNeverDropsBelowMinimum() {
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire();
+            limiter.onDropped();
+        }
+        assertThat(limiter.stats()).containsEntry("limit", 2);
+
+        acquire(2);
+        assertThatThrownBy(limiter::acquire).isInstanceOf(AIServiceUnavailableException.class);
+    }
+
+    @Test
+    void busySuccessesGrowLimitBack() {
+        limiter.acquire();
+        limiter.onDropped();
+
+        // 한도 5를 가득 쓰는 동안 제때 끝난 호출이 쌓이면 한도가 다시 늘어남
+        for (int round = 0; round < 10; round++) {
+            acquire(5);
+            for (int i = 0; i < 5; i++) {
+                limiter.onSuccess(0);
+            }
+        }
+        assertThat((int) limiter.stats().get("limit")).isGreaterThan(5);
+    }
+
+    @Test
+    void idleSuccessesDoNotGrowLimit() {
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire();
+            limiter.onSuccess(0);
+        }
+        assertThat(limiter.stats()).containsEntry("limit", 10);
+    }
+
+    private void acquire(int times) {
+        for (int i = 0; i < times; i++) {
+            limiter.acquire();
+        }
+    }
+}
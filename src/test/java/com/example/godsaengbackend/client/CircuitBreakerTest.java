@@ -0,0 +1,93 @@
+package com.example.godsaengbackend.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 실패율에 따른 CLOSED → OPEN → HALF_OPEN → CLOSED/OPEN 전환을 검증합니다.
+ */
+class CircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofMillis(50);
+
+    private final CircuitBreaker breaker = new CircuitBreaker("test", 0.5, 4, 10, OPEN_DURATION, 2);
+
+    @Test
+    void opensOnlyAfterMinimumCallsReachFailureRate() {
+        fail(3);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        fail(1);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(breaker::acquirePermission)
+                .isInstanceOf(AIServiceUnavailableException.class);
+    }
+
+    @Test
+    void staysClosedBelowFailureRate() {
+        succeed(3);
+        fail(2);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void halfOpenAllowsLimitedProbesAndClosesWhenAllSucceed() throws InterruptedException {
+        fail(4);
+        Thread.sleep(OPEN_DURATION.toMillis() + 20);
+
+        breaker.acquirePermission();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        breaker.acquirePermission();
+        assertThatThrownBy(breaker::acquirePermission).isInstanceOf(AIServiceUnavailableException.class);
+
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // 닫히면 실패 기록을 비우므로 다시 minimumCalls건이 쌓여야 열림
+        fail(3);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void failedProbeReopens() throws InterruptedException {
+        fail(4);
+        Thread.sleep(OPEN_DURATION.toMillis() + 20);
+
+        breaker.acquirePermission();
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(breaker::acquirePermission).isInstanceOf(AIServiceUnavailableException.class);
+    }
+
+    @Test
+    void ignoredProbeReleasesItsSlot() throws InterruptedException {
+        fail(4);
+        Thread.sleep(OPEN_DURATION.toMillis() + 20);
+
+        breaker.acquirePermission();
+        breaker.acquirePermission();
+        breaker.onIgnored();
+        breaker.acquirePermission();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    }
+
+    private void fail(int times) {
+        for (int i = 0; i < times; i++) {
+            breaker.acquirePermission();
+            breaker.onFailure();
+        }
+    }
+
+    private void succeed(int times) {
+        for (int i = 0; i < times; i++) {
+            breaker.acquirePermission();
+            breaker.onSuccess();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.godsaengbackend.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * 같은 키의 동시 호출이 한 번만 실행되고, 결과와 예외가 기다리던 요청에 그대로 전달되는지 검증합니다.
+ */
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight =
+            new SingleFlight<>("test", Duration.ofSeconds(5), new SimpleMeterRegistry());
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void waitersShareLeaderResult() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            calls.incrementAndGet();
+            await(release);
+            return "answer";
+        }));
+        Future<String> waiter = joinWhenLeaderStarted(() -> singleFlight.execute("key", () -> {
+            calls.incrementAndGet();
+            return "other";
+        }));
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("answer");
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo("answer");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void waitersReceiveLeaderException() throws Exception {
+        RuntimeException failure = new AIServiceUnavailableException("down");
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            await(release);
+            throw failure;
+        }));
+        Future<String> first = joinWhenLeaderStarted(() -> singleFlight.execute("key", () -> "other"));
+        Future<String> second = joinWhenCoalesced(2, () -> singleFlight.execute("key", () -> "other"));
+        release.countDown();
+
+        assertThat(causeOf(leader)).isSameAs(failure);
+        assertThat(causeOf(first)).isSameAs(failure);
+        assertThat(causeOf(second)).isSameAs(failure);
+        assertThat(singleFlight.stats()).containsEntry("calls", 1L).containsEntry("failures", 1L);
+    }
+
+    @Test
+    void finishedCallIsNotCached() {
+        AtomicInteger calls = new AtomicInteger();
+
+        singleFlight.execute("key", () -> "v" + calls.incrementAndGet());
+        String second = singleFlight.execute("key", () -> "v" + calls.incrementAndGet());
+
+        assertThat(second).isEqualTo("v2");
+        assertThat(singleFlight.stats()).containsEntry("inFlight", 0);
+    }
+
+    private Future<String> joinWhenLeaderStarted(Callable<String> call) throws InterruptedException {
+        waitUntil(() -> (int) singleFlight.stats().get("inFlight") == 1);
+        return joinWhenCoalesced(1, call);
+    }
+
+    // 리더가 끝나기 전에 합류했는지 확인한 뒤에 리더를 풀어야 결과 전달을 검증할 수 있음
+    private Future<String> joinWhenCoalesced(long expected, Callable<String> call)
+            throws InterruptedException {
+        Future<String> future = executor.submit(call);
+        waitUntil(() -> (long) singleFlight.stats().get("coalesced") >= expected);
+        return future;
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("조건을 기다리다 시간 초과");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static Throwable causeOf(Future<?> future) {
+        Throwable thrown = catchThrowable(() -> future.get(5, TimeUnit.SECONDS));
+        assertThat(thrown).isInstanceOf(ExecutionException.class);
+        return thrown.getCause();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.godsaengbackend.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * 가상 스레드 모드 실행기가 한도에 도달하면 제출한 스레드를 막지 않고 거절 정책을 따르는지 검증합니다.
+ */
+class BoundedVirtualThreadTaskExecutorTest {
+
+    private static final Duration NON_BLOCKING = Duration.ofSeconds(1);
+
+    private final AITaskExecutorStats stats = new AITaskExecutorStats();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    void abortPolicyRejectsWithoutBlockingSubmitter() throws InterruptedException {
+        BoundedVirtualThreadTaskExecutor executor = executor(AsyncConfig.RejectionPolicy.ABORT);
+        CountDownLatch finished = new CountDownLatch(2);
+        fill(executor, finished);
+
+        assertTimeoutPreemptively(NON_BLOCKING, () ->
+                assertThatThrownBy(() -> executor.execute(() -> { }))
+                        .isInstanceOf(TaskRejectedException.class));
+        assertThat(stats.stats()).containsEntry("rejected", 1L).containsEntry("queueSize", 1);
+
+        release.countDown();
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(() -> { });
+    }
+
+    @Test
+    void callerRunsPolicyRunsOnSubmitter() throws InterruptedException {
+        BoundedVirtualThreadTaskExecutor executor = executor(AsyncConfig.RejectionPolicy.CALLER_RUNS);
+        fill(executor, new CountDownLatch(2));
+
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        assertTimeoutPreemptively(NON_BLOCKING, () -> executor.execute(() -> ranOn.set(Thread.currentThread())));
+        assertThat(ranOn.get()).isNotNull();
+        assertThat(ranOn.get().isVirtual()).isFalse();
+        assertThat(stats.stats()).containsEntry("rejected", 1L);
+    }
+
+    @Test
+    void runsAtMostMaxConcurrentTasks() throws InterruptedException {
+        BoundedVirtualThreadTaskExecutor executor = executor(AsyncConfig.RejectionPolicy.ABORT);
+        CountDownLatch finished = new CountDownLatch(2);
+        fill(executor, finished);
+
+        assertThat(stats.getActiveCount()).isEqualTo(1);
+        release.countDown();
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        // 완료 집계는 작업 본문이 끝난 뒤에 기록됨
+        waitUntil(() -> (long) stats.stats().get("completed") == 2);
+        assertThat(executor.getQueueSize()).isZero();
+    }
+
+    private BoundedVirtualThreadTaskExecutor executor(AsyncConfig.RejectionPolicy rejectionPolicy) {
+        BoundedVirtualThreadTaskExecutor executor =
+                new BoundedVirtualThreadTaskExecutor("test-vt-", 1, 1, rejectionPolicy, stats);
+        stats.bind(executor);
+        return executor;
+    }
+
+    // 실행 자리 1개와 대기 자리 1개를 막힌 작업으로 채움
+    private void fill(BoundedVirtualThreadTaskExecutor executor, CountDownLatch finished) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            awaitRelease();
+            finished.countDown();
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(() -> {
+            awaitRelease();
+            finished.countDown();
+        });
+        assertThat(executor.getQueueSize()).isEqualTo(1);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("조건을 기다리다 시간 초과");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
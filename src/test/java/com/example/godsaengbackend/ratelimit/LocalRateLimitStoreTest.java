@@ -0,0 +1,84 @@
+package com.example.godsaengbackend.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GCRA 토큰 버킷의 몰아쓰기 한도, 재충전, 되돌리기를 검증합니다.
+ */
+class LocalRateLimitStoreTest {
+
+    // 500ms마다 토큰 하나, 최대 3개
+    private static final RateLimitStore.Bandwidth BANDWIDTH =
+            new RateLimitStore.Bandwidth(3, Duration.ofMillis(1500));
+
+    private final LocalRateLimitStore store = new LocalRateLimitStore(1000, 3_600_000);
+
+    @Test
+    void allowsBurstUpToCapacity() {
+        assertThat(store.tryConsume("key", BANDWIDTH).remaining()).isEqualTo(2);
+        assertThat(store.tryConsume("key", BANDWIDTH).remaining()).isEqualTo(1);
+        assertThat(store.tryConsume("key", BANDWIDTH).remaining()).isZero();
+
+        RateLimitStore.Decision rejected = store.tryConsume("key", BANDWIDTH);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfter()).isPositive().isLessThanOrEqualTo(Duration.ofMillis(500));
+        assertThat(rejected.retryAfterSeconds()).isEqualTo(1);
+    }
+
+    @Test
+    void refillsOneTokenPerEmissionInterval() throws InterruptedException {
+        drain("key");
+        RateLimitStore.Decision rejected = store.tryConsume("key", BANDWIDTH);
+
+        Thread.sleep(rejected.retryAfter().toMillis() + 20);
+        assertThat(store.tryConsume("key", BANDWIDTH).allowed()).isTrue();
+        // 한 간격만 지났으므로 토큰은 하나만 채워짐
+        assertThat(store.tryConsume("key", BANDWIDTH).allowed()).isFalse();
+    }
+
+    @Test
+    void rejectionDoesNotConsume() throws InterruptedException {
+        drain("key");
+        for (int i = 0; i < 10; i++) {
+            store.tryConsume("key", BANDWIDTH);
+        }
+        Thread.sleep(BANDWIDTH.period().toMillis() / BANDWIDTH.capacity() + 20);
+        assertThat(store.tryConsume("key", BANDWIDTH).allowed()).isTrue();
+    }
+
+    @Test
+    void refundReturnsOneToken() {
+        drain("key");
+        store.refund("key", BANDWIDTH);
+
+        assertThat(store.tryConsume("key", BANDWIDTH).allowed()).isTrue();
+        assertThat(store.tryConsume("key", BANDWIDTH).allowed()).isFalse();
+    }
+
+    @Test
+    void refundNeverExceedsCapacity() {
+        store.tryConsume("key", BANDWIDTH);
+        store.refund("key", BANDWIDTH);
+        store.refund("key", BANDWIDTH);
+
+        drain("key");
+        assertThat(store.tryConsume("key", BANDWIDTH).allowed()).isFalse();
+        assertThat(store.stats()).containsEntry("refunded", 1L);
+    }
+
+    @Test
+    void keysAreIndependent() {
+        drain("a");
+        assertThat(store.tryConsume("b", BANDWIDTH).allowed()).isTrue();
+    }
+
+    private void drain(String key) {
+        for (int i = 0; i < BANDWIDTH.capacity(); i++) {
+            assertThat(store.tryConsume(key, BANDWIDTH).allowed()).isTrue();
+        }
+    }
+}
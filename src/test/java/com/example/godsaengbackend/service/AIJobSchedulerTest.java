@@ -0,0 +1,138 @@
+package com.example.godsaengbackend.service;
+
+import com.example.godsaengbackend.cache.UserTierCache.Tier;
+import com.example.godsaengbackend.dto.AIJobCandidate;
+import com.example.godsaengbackend.dto.AIQueueStatusDto.QueueState;
+import com.example.godsaengbackend.service.AIJobScheduler.Kind;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * rank(생성 시각 - 등급 가산 - 마감 가산) 순서, 처리 한도, aging 상한을 검증합니다.
+ */
+class AIJobSchedulerTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    // 처리 한도 2, premium 30분, god 60분, 마감 7일 전부터 하루당 10분
+    private final AIJobScheduler scheduler = new AIJobScheduler(
+            new SimpleMeterRegistry(), 2, 1_800_000, 3_600_000, 7, 600_000, 3_600_000, 600_000);
+
+    @Test
+    void tierAndDeadlineCreditsMoveJobsAhead() {
+        AIJobScheduler.Job basic = job(1L, T0, Tier.BASIC, null);
+        // 10분 늦게 들어왔지만 premium 가산 30분
+        AIJobScheduler.Job premium = job(2L, T0.plusMinutes(10), Tier.PREMIUM, null);
+        // 20분 늦게 들어왔지만 마감 당일이라 70분 가산
+        AIJobScheduler.Job dueToday = job(3L, T0.plusMinutes(20), Tier.BASIC, 0);
+        // 마감이 horizon보다 멀면 가산 없음
+        AIJobScheduler.Job dueLater = job(4L, T0.minusMinutes(1), Tier.BASIC, 30);
+
+        scheduler.refresh(List.of(basic, premium, dueToday, dueLater));
+
+        assertThat(scheduler.status(3L).getPosition()).isEqualTo(1);
+        assertThat(scheduler.status(2L).getPosition()).isEqualTo(2);
+        assertThat(scheduler.status(4L).getPosition()).isEqualTo(3);
+        assertThat(scheduler.status(1L).getPosition()).isEqualTo(4);
+    }
+
+    @Test
+    void waitingJobIsNotOvertakenBeyondMaximumCredit() {
+        // 최대 가산 합계 = god 60분 + 마감 70분 = 130분
+        AIJobScheduler.Job waiting = job(1L, T0, Tier.BASIC, null);
+        AIJobScheduler.Job within = job(2L, T0.plusMinutes(129), Tier.GOD, 0);
+        AIJobScheduler.Job beyond = job(3L, T0.plusMinutes(131), Tier.GOD, 0);
+
+        scheduler.refresh(List.of(waiting, within, beyond));
+
+        assertThat(scheduler.reserve(10)).extracting(AIJobScheduler.Job::lectureId).containsExactly(2L, 1L);
+        assertThat(scheduler.status(3L).getPosition()).isEqualTo(1);
+    }
+
+    @Test
+    void reserveRespectsMaxInFlightUntilCompleted() {
+        scheduler.refresh(List.of(
+                job(1L, T0, Tier.BASIC, null),
+                job(2L, T0.plusMinutes(1), Tier.BASIC, null),
+                job(3L, T0.plusMinutes(2), Tier.BASIC, null)));
+
+        assertThat(scheduler.reserve(10)).extracting(AIJobScheduler.Job::lectureId).containsExactly(1L, 2L);
+        assertThat(scheduler.reserve(10)).isEmpty();
+        assertThat(scheduler.status(1L).getState()).isEqualTo(QueueState.DISPATCHED);
+
+        scheduler.complete(List.of(1L));
+        assertThat(scheduler.reserve(10)).extracting(AIJobScheduler.Job::lectureId).containsExactly(3L);
+    }
+
+    @Test
+    void refreshSkipsJobsAlreadyInFlight() {
+        AIJobScheduler.Job first = job(1L, T0, Tier.BASIC, null);
+        scheduler.refresh(List.of(first));
+        scheduler.reserve(1);
+
+        // 전송 후 아직 커밋되지 않은 요청이 다시 후보로 조회되어도 두 번 내보내지 않음
+        scheduler.refresh(List.of(first, job(2L, T0, Tier.BASIC, null)));
+        assertThat(scheduler.reserve(10)).extracting(AIJobScheduler.Job::lectureId).containsExactly(2L);
+    }
+
+    @Test
+    void uploadsShareQueueAndInFlightLimitWithProcessRequests() {
+        scheduler.refresh(List.of(
+                job(Kind.UPLOAD, 1L, T0, Tier.BASIC, null),
+                job(Kind.PROCESS, 2L, T0.plusMinutes(1), Tier.BASIC, null),
+                job(Kind.UPLOAD, 3L, T0.plusMinutes(2), Tier.BASIC, null)));
+
+        assertThat(scheduler.reserve(10)).extracting(AIJobScheduler.Job::kind)
+                .containsExactly(Kind.UPLOAD, Kind.PROCESS);
+        assertThat(scheduler.status(3L).getPosition()).isEqualTo(1);
+        assertThat(scheduler.reserve(10)).isEmpty();
+    }
+
+    @Test
+    void cancelReturnsSlot() {
+        scheduler.refresh(List.of(job(1L, T0, Tier.BASIC, null), job(2L, T0, Tier.BASIC, null)));
+        scheduler.reserve(10);
+        scheduler.cancel(1L);
+
+        assertThat(scheduler.stats()).containsEntry("inFlight", 1);
+        assertThat(scheduler.status(1L).getState()).isEqualTo(QueueState.NOT_QUEUED);
+    }
+
+    private AIJobScheduler.Job job(Long lectureId, LocalDateTime createdAt, Tier tier, Integer remainingDays) {
+        return job(Kind.PROCESS, lectureId, createdAt, tier, remainingDays);
+    }
+
+    private AIJobScheduler.Job job(Kind kind, Long lectureId, LocalDateTime createdAt, Tier tier, Integer remainingDays) {
+        return scheduler.toJob(kind, new AIJobCandidate() {
+            @Override
+            public Long getSourceId() {
+                return lectureId;
+            }
+
+            @Override
+            public Long getLectureId() {
+                return lectureId;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return createdAt;
+            }
+
+            @Override
+            public Integer getRemainingDays() {
+                return remainingDays;
+            }
+
+            @Override
+            public String getEmail() {
+                return "user" + lectureId + "@example.com";
+            }
+        }, tier);
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.godsaengbackend.service;
+
+import com.example.godsaengbackend.dto.ChatRequestDTO;
+import com.example.godsaengbackend.dto.ChatResponseDTO;
+import com.example.godsaengbackend.entity.Lecture;
+import com.example.godsaengbackend.entity.User;
+import com.example.godsaengbackend.repository.LectureRepository;
+import com.example.godsaengbackend.repository.UserRepository;
+import com.sun.net.httpserver.HttpServer;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 느린 AI 서버를 200명이 동시에 기다리는 동안 커넥션 풀이 고갈되지 않는지 검증합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:chat-load;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.datasource.hikari.maximum-pool-size=10",
+        "ai.gateway.max-connections=200",
+        "ai.gateway.query.max-concurrent=200",
+        "ai.gateway.query.limit.initial=200"
+})
+class ChatServiceLoadTest {
+
+    private static final int ASKERS = 200;
+
+    private static final CountDownLatch releaseAnswers = new CountDownLatch(1);
+    private static final AtomicInteger waitingQueries = new AtomicInteger();
+    private static HttpServer aiServer;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @DynamicPropertySource
+    static void aiServerProperties(DynamicPropertyRegistry registry) throws IOException {
+        // 응답을 releaseAnswers가 열릴 때까지 붙잡고 있는 느린 AI 서버
+        aiServer = HttpServer.create(new InetSocketAddress("localhost", 0), ASKERS);
+        aiServer.setExecutor(Executors.newFixedThreadPool(ASKERS));
+        aiServer.createContext("/query", exchange -> {
+            waitingQueries.incrementAndGet();
+            try {
+                releaseAnswers.await(60, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"data\":{\"answer\":\"stub answer\"}}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        aiServer.start();
+
+        registry.add("ai.service.url", () -> "http://localhost:" + aiServer.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopAiServer() {
+        releaseAnswers.countDown();
+        aiServer.stop(0);
+    }
+
+    @Test
+    void aiWaitDoesNotHoldPooledConnections() throws Exception {
+        User user = userRepository.save(User.builder()
+                .email("load@godsaeng.com")
+                .password("password")
+                .username("load")
+                .role("ROLE_USER")
+                .isGodMode(false)
+                .build());
+        Lecture lecture = lectureRepository.save(Lecture.builder()
+                .user(user)
+                .title("load test")
+                .sourceType(Lecture.SourceType.UPLOAD)
+                .status(Lecture.LectureStatus.COMPLETED)
+                .taskId("task-load")
+                .embeddingSynced(false)
+                .build());
+
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        ExecutorService askers = Executors.newFixedThreadPool(ASKERS);
+        List<Future<ChatResponseDTO>> answers = new ArrayList<>();
+        try {
+            for (int i = 0; i < ASKERS; i++) {
+                ChatRequestDTO request = ChatRequestDTO.builder().question("질문 " + i).build();
+                answers.add(askers.submit(() -> chatService.sendQuestion(user.getEmail(), lecture.getId(), request)));
+            }
+
+            // 모든 질문이 AI 서버 응답을 기다리는 상태가 될 때까지 대기
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+            while (waitingQueries.get() < ASKERS && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(waitingQueries.get()).isEqualTo(ASKERS);
+
+            // AI 응답 대기 중에는 어떤 요청도 커넥션을 점유하거나 기다리지 않아야 한다
+            assertThat(pool.getActiveConnections()).isZero();
+            assertThat(pool.getThreadsAwaitingConnection()).isZero();
+
+            releaseAnswers.countDown();
+            for (Future<ChatResponseDTO> answer : answers) {
+                assertThat(answer.get(60, TimeUnit.SECONDS).getAnswer()).isEqualTo("stub answer");
+            }
+        } finally {
+            releaseAnswers.countDown();
+            askers.shutdownNow();
+        }
+    }
+}